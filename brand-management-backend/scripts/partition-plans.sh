@@ -0,0 +1,55 @@
+#!/usr/bin/env bash
+#
+# Partition pruning check: EXPLAINs the brand statements the application issues and prints the
+# partitions of brand each one reads. Statements for one company must read one partition.
+# Needs the mysql client and a database migrated to V4 (brand partitioned by chain_id).
+#
+#   scripts/partition-plans.sh [chain-id]      (default 1)
+#
+# Connection: MYSQL_HOST (localhost), MYSQL_PORT (3306), MYSQL_USER (root), MYSQL_PWD (root),
+# MYSQL_DATABASE (brand_management_db). Exits non-zero if a per-company statement is not pruned.
+set -euo pipefail
+
+CHAIN_ID=${1:-1}
+export MYSQL_PWD=${MYSQL_PWD:-root}
+MYSQL=(mysql -h "${MYSQL_HOST:-localhost}" -P "${MYSQL_PORT:-3306}" -u "${MYSQL_USER:-root}"
+       -D "${MYSQL_DATABASE:-brand_management_db}" --batch --skip-column-names)
+
+failed=0
+
+# plan <expect: one | any> <description> <statement>
+plan() {
+    local expect=$1 description=$2 statement=$3 partitions verdict
+    # Columns: id, select_type, table, partitions, type, possible_keys, key, ...
+    partitions=$("${MYSQL[@]}" -e "EXPLAIN $statement" | awk -F'\t' '$3 == "b" || $3 == "brand" { print $4 }')
+    verdict=ok
+    if [[ $expect == one && ( -z $partitions || $partitions == *,* ) ]]; then
+        verdict=NOT-PRUNED
+        failed=1
+    fi
+    printf '%-11s %-48s %s\n' "$verdict" "$description" "${partitions:-<none>}"
+}
+
+# Literal values, as Connector/J sends client-side prepared statements
+plan one "brands of one company" \
+    "SELECT b.brand_id FROM brand b JOIN chain c ON c.chain_id = b.chain_id
+     WHERE b.chain_id = $CHAIN_ID AND b.is_active = true"
+plan one "keyset page of one company" \
+    "SELECT b.brand_id FROM brand b JOIN chain c ON c.chain_id = b.chain_id
+     WHERE b.is_active = true AND ($CHAIN_ID IS NULL OR b.chain_id = $CHAIN_ID)
+       AND (NULL IS NULL OR b.brand_id > NULL) ORDER BY b.brand_id LIMIT 101"
+plan one "export of one company" \
+    "SELECT b.brand_id FROM brand b JOIN chain c ON c.chain_id = b.chain_id
+     WHERE b.is_active = true AND b.chain_id = $CHAIN_ID ORDER BY b.brand_id"
+plan one "duplicate-name check" \
+    "SELECT COUNT(*) FROM brand b
+     WHERE b.brand_name_normalized = 'x' AND b.chain_id = $CHAIN_ID AND b.is_active = true"
+plan one "insert (partition chosen by chain_id)" \
+    "INSERT INTO brand (brand_name, brand_name_normalized, chain_id, is_active, version, created_at)
+     VALUES ('x', 'x', $CHAIN_ID, true, 0, NOW())"
+plan any "brand by ID (one key lookup per partition)" \
+    "SELECT b.brand_id FROM brand b WHERE b.brand_id = 1 AND b.is_active = true"
+plan any "all active brands" \
+    "SELECT b.brand_id FROM brand b JOIN chain c ON c.chain_id = b.chain_id WHERE b.is_active = true"
+
+exit $failed
@@ -0,0 +1,76 @@
+#!/usr/bin/env bash
+#
+# Startup benchmark: time from JVM launch to the first successful GET /api/chains, and the
+# resident set size at that point, for each launch mode. Linux only (date +%N, ps rss).
+# Needs JDK 21, Maven, curl and the MySQL configured in application.properties.
+#
+#   scripts/startup-benchmark.sh [runs-per-mode]      (default 5)
+#
+# Modes:
+#   legacy        ddl-auto=update, no Flyway (startup behaviour before migrations)
+#   default       Flyway + Hibernate schema validation
+#   prod          prod profile: lazy init, deferred JPA bootstrap, no JDBC metadata reads
+#   prod-cds      prod + class data sharing archive
+#   prod-cds-aot  prod + CDS + Spring AOT bean definitions
+#
+# Results: target/startup/results.csv (every run) and a median table on stdout.
+set -euo pipefail
+cd "$(dirname "$0")/.."
+
+RUNS=${1:-5}
+PORT=${PORT:-18080}
+URL="http://localhost:$PORT/api/chains"
+OUT=target/startup
+
+mvn -B -q -Pfast-start -DskipTests package
+JAR=$(ls target/brand-management-backend-*.jar | grep -v '\.original$' | head -1)
+
+rm -rf "$OUT"
+mkdir -p "$OUT"
+java -Djarmode=tools -jar "$JAR" extract --destination "$OUT/app"
+APP="$OUT/app/$(basename "$JAR")"
+
+# CDS training runs: refresh the context, exit, and archive the classes that were loaded
+java -XX:ArchiveClassesAtExit="$OUT/app.jsa" -Dspring.context.exit=onRefresh \
+     -jar "$APP" --spring.profiles.active=prod > "$OUT/train.log" 2>&1
+java -XX:ArchiveClassesAtExit="$OUT/app-aot.jsa" -Dspring.context.exit=onRefresh -Dspring.aot.enabled=true \
+     -jar "$APP" --spring.profiles.active=prod > "$OUT/train-aot.log" 2>&1
+
+echo "mode,run,first_request_ms,rss_mb" > "$OUT/results.csv"
+
+# measure <mode> <jvm options> <application arguments>
+measure() {
+    local mode=$1 jvm_opts=$2 app_args=$3
+    for run in $(seq "$RUNS"); do
+        local start pid ms rss
+        start=$(date +%s%N)
+        # shellcheck disable=SC2086
+        java $jvm_opts -jar "$APP" --server.port="$PORT" $app_args > "$OUT/$mode.log" 2>&1 &
+        pid=$!
+        until curl -sf -o /dev/null "$URL"; do
+            if ! kill -0 "$pid" 2>/dev/null; then
+                echo "$mode: application exited, see $OUT/$mode.log" >&2
+                exit 1
+            fi
+            sleep 0.05
+        done
+        ms=$(( ($(date +%s%N) - start) / 1000000 ))
+        rss=$(( $(ps -o rss= -p "$pid") / 1024 ))
+        kill "$pid"
+        wait "$pid" 2>/dev/null || true
+        echo "$mode,$run,$ms,$rss" >> "$OUT/results.csv"
+    done
+}
+
+measure legacy       ""                                                          "--spring.flyway.enabled=false --spring.jpa.hibernate.ddl-auto=update"
+measure default      ""                                                          ""
+measure prod         ""                                                          "--spring.profiles.active=prod"
+measure prod-cds     "-XX:SharedArchiveFile=$OUT/app.jsa"                        "--spring.profiles.active=prod"
+measure prod-cds-aot "-XX:SharedArchiveFile=$OUT/app-aot.jsa -Dspring.aot.enabled=true" "--spring.profiles.active=prod"
+
+printf '\n%-14s %22s %14s\n' mode first_request_ms rss_mb
+for mode in legacy default prod prod-cds prod-cds-aot; do
+    ms=$(grep "^$mode," "$OUT/results.csv" | cut -d, -f3 | sort -n | awk '{a[NR]=$1} END {print a[int((NR+1)/2)]}')
+    rss=$(grep "^$mode," "$OUT/results.csv" | cut -d, -f4 | sort -n | awk '{a[NR]=$1} END {print a[int((NR+1)/2)]}')
+    printf '%-14s %22s %14s\n' "$mode" "$ms" "$rss"
+done
@@ -0,0 +1,72 @@
+package com.brandmanagement.benchmark;
+
+import com.brandmanagement.BrandManagementApplication;
+import com.brandmanagement.dto.BrandRequestDTO;
+import com.brandmanagement.entity.Chain;
+import com.brandmanagement.repository.ChainRepository;
+import com.brandmanagement.service.BrandService;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Boots the application (without the web server) against the "bench" profile
+ * and seeds chains and brands through the regular service layer.
+ */
+final class BenchmarkContext {
+
+    static final int CHAINS = 10;
+
+    private BenchmarkContext() {
+    }
+
+    /** @param args command-line style overrides of the bench profile, e.g. "--spring.jpa.show-sql=true" */
+    static ConfigurableApplicationContext start(String... args) {
+        return new SpringApplicationBuilder(BrandManagementApplication.class)
+                .profiles("bench")
+                .web(WebApplicationType.NONE)
+                .run(args);
+    }
+
+    /** Creates {@link #CHAINS} chains and spreads {@code brands} brands across them; returns the chain IDs. */
+    static List<Long> seed(ConfigurableApplicationContext context, int brands) {
+        ChainRepository chainRepository = context.getBean(ChainRepository.class);
+        BrandService brandService = context.getBean(BrandService.class);
+
+        List<Long> chainIds = new ArrayList<>();
+        for (int c = 0; c < CHAINS; c++) {
+            Chain chain = chainRepository.save(Chain.builder().chainName("Bench Chain " + c).build());
+            chainIds.add(chain.getChainId());
+        }
+
+        List<BrandRequestDTO> requests = new ArrayList<>(brands);
+        for (int i = 0; i < brands; i++) {
+            requests.add(BrandRequestDTO.builder()
+                    .brandName("Bench Brand " + i)
+                    .chainId(chainIds.get(i % CHAINS))
+                    .build());
+        }
+        brandService.createBrands(requests);
+        return chainIds;
+    }
+
+    /** Creates one chain holding {@code brands} brands; returns its ID. */
+    static Long seedChain(ConfigurableApplicationContext context, int brands) {
+        ChainRepository chainRepository = context.getBean(ChainRepository.class);
+        BrandService brandService = context.getBean(BrandService.class);
+
+        Long chainId = chainRepository.save(Chain.builder().chainName("Bench Large Chain").build()).getChainId();
+        List<BrandRequestDTO> requests = new ArrayList<>(brands);
+        for (int i = 0; i < brands; i++) {
+            requests.add(BrandRequestDTO.builder()
+                    .brandName("Bench Brand " + i)
+                    .chainId(chainId)
+                    .build());
+        }
+        brandService.createBrands(requests);
+        return chainId;
+    }
+}
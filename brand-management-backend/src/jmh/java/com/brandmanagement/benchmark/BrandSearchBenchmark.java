@@ -0,0 +1,71 @@
+package com.brandmanagement.benchmark;
+
+import com.brandmanagement.dto.BrandSearchResultDTO;
+import com.brandmanagement.search.BrandSearchIndex;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Typeahead search: the in-memory prefix index (across the catalog and within one of the
+ * ten chains) versus a LIKE '%q%' scan of the brand table.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class BrandSearchBenchmark {
+
+    private static final int LIMIT = 10;
+
+    @Param({"100000", "1000000"})
+    int brands;
+
+    // Whole-name prefix, second-word prefix, and a query that matches nothing
+    @Param({"bench brand 4242", "brand 99", "zzz"})
+    String query;
+
+    private ConfigurableApplicationContext context;
+    private BrandSearchIndex searchIndex;
+    private JdbcTemplate jdbcTemplate;
+    private Long chainId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        chainId = BenchmarkContext.seed(context, brands).get(0);
+        searchIndex = context.getBean(BrandSearchIndex.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<BrandSearchResultDTO> index() {
+        return searchIndex.search(query, null, LIMIT);
+    }
+
+    @Benchmark
+    public List<BrandSearchResultDTO> indexInChain() {
+        return searchIndex.search(query, chainId, LIMIT);
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> sqlLike() {
+        return jdbcTemplate.queryForList("""
+                SELECT b.brand_id, b.brand_name, c.chain_id, c.chain_name
+                FROM brand b JOIN chain c ON c.chain_id = b.chain_id
+                WHERE b.is_active = true AND b.brand_name_normalized LIKE ?
+                LIMIT ?
+                """, "%" + query + "%", LIMIT);
+    }
+}
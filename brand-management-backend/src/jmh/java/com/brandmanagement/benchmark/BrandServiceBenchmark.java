@@ -0,0 +1,183 @@
+package com.brandmanagement.benchmark;
+
+import com.brandmanagement.config.CacheConfig;
+import com.brandmanagement.dto.BrandDTO;
+import com.brandmanagement.dto.BrandLookupResultDTO;
+import com.brandmanagement.dto.BrandRequestDTO;
+import com.brandmanagement.service.BrandService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * End-to-end BrandService operations (service → repository → H2) at a fixed catalog size,
+ * plus create into a single chain of growing size ({@link LargeChain}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BrandServiceBenchmark {
+
+    private static final int LOOKUP_SIZE = 500;
+
+    @Param({"1000", "10000"})
+    int brands;
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    private ConfigurableApplicationContext context;
+    private BrandService brandService;
+    private CacheManager cacheManager;
+    private List<Long> chainIds;
+    private Long sampleBrandId;
+    private Long updateBrandId;
+    private List<Long> lookupIds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        brandService = context.getBean(BrandService.class);
+        cacheManager = context.getBean(CacheManager.class);
+        chainIds = BenchmarkContext.seed(context, brands);
+
+        List<BrandDTO> all = brandService.getAllActiveBrands();
+        sampleBrandId = all.get(all.size() / 2).getBrandId();
+        updateBrandId = all.get(0).getBrandId();
+        // Spread over the catalog, as IDs held by another service would be
+        int step = all.size() / LOOKUP_SIZE;
+        lookupIds = new ArrayList<>(LOOKUP_SIZE);
+        for (int i = 0; i < LOOKUP_SIZE; i++) {
+            lookupIds.add(all.get(i * step).getBrandId());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<BrandDTO> listAll() {
+        return brandService.getAllActiveBrands();
+    }
+
+    @Benchmark
+    public List<BrandDTO> listByChainUncached() {
+        Long chainId = chainIds.get(0);
+        Objects.requireNonNull(cacheManager.getCache(CacheConfig.BRANDS_BY_CHAIN)).evict(chainId);
+        return brandService.getBrandsByChain(chainId);
+    }
+
+    @Benchmark
+    public BrandDTO getByIdUncached() {
+        Objects.requireNonNull(cacheManager.getCache(CacheConfig.BRAND_BY_ID)).evict(sampleBrandId);
+        return brandService.getBrandById(sampleBrandId);
+    }
+
+    @Benchmark
+    public BrandDTO getByIdCached() {
+        return brandService.getBrandById(sampleBrandId);
+    }
+
+    /** Baseline for {@link #lookupUncached}: what callers did before, one getBrandById per ID. */
+    @Benchmark
+    public List<BrandDTO> getByIdLoopUncached() {
+        evictLookupIds();
+        List<BrandDTO> found = new ArrayList<>(lookupIds.size());
+        for (Long id : lookupIds) {
+            found.add(brandService.getBrandById(id));
+        }
+        return found;
+    }
+
+    @Benchmark
+    public BrandLookupResultDTO lookupUncached() {
+        evictLookupIds();
+        return brandService.lookupBrands(lookupIds);
+    }
+
+    @Benchmark
+    public BrandLookupResultDTO lookupCached() {
+        return brandService.lookupBrands(lookupIds);
+    }
+
+    private void evictLookupIds() {
+        Cache byId = Objects.requireNonNull(cacheManager.getCache(CacheConfig.BRAND_BY_ID));
+        lookupIds.forEach(byId::evict);
+    }
+
+    @Benchmark
+    public BrandDTO create() {
+        return brandService.createBrand(BrandRequestDTO.builder()
+                .brandName("Created " + sequence.incrementAndGet())
+                .chainId(chainIds.get(1))
+                .build());
+    }
+
+    @Benchmark
+    public BrandDTO update() {
+        return brandService.updateBrand(updateBrandId, BrandRequestDTO.builder()
+                .brandName("Renamed " + sequence.incrementAndGet())
+                .chainId(chainIds.get(0))
+                .build());
+    }
+
+    @Benchmark
+    public void createThenDelete() {
+        BrandDTO created = create();
+        brandService.deleteBrand(created.getBrandId());
+    }
+
+    /**
+     * Create into one chain of chainSize brands: the duplicate check must not grow with the chain.
+     * A nested benchmark so it gets its own context and does not multiply with {@code brands}.
+     */
+    @State(Scope.Benchmark)
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(iterations = 3, time = 2)
+    @Measurement(iterations = 5, time = 2)
+    @Fork(1)
+    public static class LargeChain {
+
+        @Param({"100", "10000", "100000"})
+        int chainSize;
+
+        private final AtomicLong sequence = new AtomicLong();
+
+        private ConfigurableApplicationContext context;
+        private BrandService brandService;
+        private Long chainId;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            // The seed's outbox rows and feed changes would otherwise be drained during measurement
+            context = BenchmarkContext.start("--app.outbox.relay.enabled=false", "--app.changes.poll.enabled=false");
+            brandService = context.getBean(BrandService.class);
+            chainId = BenchmarkContext.seedChain(context, chainSize);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            context.close();
+        }
+
+        @Benchmark
+        public BrandDTO createIntoLargeChain() {
+            return brandService.createBrand(BrandRequestDTO.builder()
+                    .brandName("Created " + sequence.incrementAndGet())
+                    .chainId(chainId)
+                    .build());
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.brandmanagement.benchmark;
+
+import com.brandmanagement.config.CacheConfig;
+import com.brandmanagement.dto.BrandDTO;
+import com.brandmanagement.service.BrandService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Read throughput with the old SQL logging setup (show-sql + format_sql + DEBUG, every
+ * statement pretty-printed to stdout) against the slow-query log (only statements over the
+ * threshold, plus a 0.1% sample). Run with 4 threads to include stdout contention.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class SqlLoggingBenchmark {
+
+    @Param({"show-sql", "slow-query-log"})
+    String logging;
+
+    private ConfigurableApplicationContext context;
+    private BrandService brandService;
+    private CacheManager cacheManager;
+    private List<Long> chainIds;
+    private Long sampleBrandId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = switch (logging) {
+            case "show-sql" -> BenchmarkContext.start(
+                    "--spring.jpa.show-sql=true",
+                    "--spring.jpa.properties.hibernate.format_sql=true",
+                    "--logging.level.com.brandmanagement=DEBUG",
+                    "--app.sql.slow-query-threshold=1h");
+            case "slow-query-log" -> BenchmarkContext.start(
+                    "--app.sql.slow-query-threshold=200ms",
+                    "--app.sql.sample-rate=0.001",
+                    "--logging.level.com.brandmanagement.metrics.SqlExecutionLogger=INFO");
+            default -> throw new IllegalArgumentException(logging);
+        };
+        brandService = context.getBean(BrandService.class);
+        cacheManager = context.getBean(CacheManager.class);
+        chainIds = BenchmarkContext.seed(context, 1000);
+        List<BrandDTO> all = brandService.getAllActiveBrands();
+        sampleBrandId = all.get(all.size() / 2).getBrandId();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public BrandDTO getByIdUncached() {
+        Objects.requireNonNull(cacheManager.getCache(CacheConfig.BRAND_BY_ID)).evict(sampleBrandId);
+        return brandService.getBrandById(sampleBrandId);
+    }
+
+    @Benchmark
+    public List<BrandDTO> listByChainUncached() {
+        Long chainId = chainIds.get(0);
+        Objects.requireNonNull(cacheManager.getCache(CacheConfig.BRANDS_BY_CHAIN)).evict(chainId);
+        return brandService.getBrandsByChain(chainId);
+    }
+}
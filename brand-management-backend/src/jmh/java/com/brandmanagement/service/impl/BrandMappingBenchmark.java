@@ -0,0 +1,122 @@
+package com.brandmanagement.service.impl;
+
+import com.brandmanagement.dto.BrandDTO;
+import com.brandmanagement.entity.Brand;
+import com.brandmanagement.entity.Chain;
+import com.brandmanagement.json.BrandDTOSerializer;
+import com.brandmanagement.json.BrandJsonWriter;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Entity→DTO mapping and Jackson serialization of brand lists, without a database.
+ * Run with "-prof gc" (the default jmh.args) to see allocation rate per operation;
+ * gc.alloc.rate.norm / rows is the allocation per row.
+ *
+ * serializeDTOs / mapAndSerialize use Jackson's reflective bean serializer; the *Lean
+ * variants use BrandJsonWriter (writeRowsLean is the export path: column values, no DTO).
+ * Setup fails if the two serializers produce different bytes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BrandMappingBenchmark {
+
+    @Param({"1000", "100000"})
+    int rows;
+
+    private List<Brand> entities;
+    private List<BrandDTO> dtos;
+    private ObjectMapper objectMapper;
+    private ObjectMapper leanObjectMapper;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        // Same defaults Spring Boot applies to its ObjectMapper (ISO dates, JavaTimeModule)
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        leanObjectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .modulesToInstall(new SimpleModule().addSerializer(BrandDTO.class, new BrandDTOSerializer()))
+                .build();
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Chain> chains = new ArrayList<>();
+        for (long c = 1; c <= 10; c++) {
+            chains.add(Chain.builder().chainId(c).chainName("Chain " + c).build());
+        }
+        entities = new ArrayList<>(rows);
+        for (long i = 1; i <= rows; i++) {
+            entities.add(Brand.builder()
+                    .brandId(i)
+                    .brandName("Brand " + i)
+                    .chain(chains.get((int) (i % chains.size())))
+                    .isActive(true)
+                    .version(0L)
+                    // Distinct timestamps with sub-second parts, so formatting is not a cache hit
+                    .createdAt(now.minusSeconds(i))
+                    .updatedAt(now.minusSeconds(i).plusNanos(i * 1000))
+                    .build());
+        }
+        dtos = mapToDTOs();
+
+        byte[] bean = objectMapper.writeValueAsBytes(dtos);
+        byte[] lean = leanObjectMapper.writeValueAsBytes(dtos);
+        if (!Arrays.equals(bean, lean)) {
+            throw new IllegalStateException("BrandJsonWriter output differs from the bean serializer");
+        }
+    }
+
+    @Benchmark
+    public List<BrandDTO> mapToDTOs() {
+        return entities.stream()
+                .map(BrandServiceImpl::toDTO)
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public void serializeDTOs() throws IOException {
+        objectMapper.writeValue(OutputStream.nullOutputStream(), dtos);
+    }
+
+    @Benchmark
+    public void mapAndSerialize() throws IOException {
+        objectMapper.writeValue(OutputStream.nullOutputStream(), mapToDTOs());
+    }
+
+    @Benchmark
+    public void serializeDTOsLean() throws IOException {
+        leanObjectMapper.writeValue(OutputStream.nullOutputStream(), dtos);
+    }
+
+    @Benchmark
+    public void writeRowsLean() throws IOException {
+        BrandJsonWriter writer = new BrandJsonWriter();
+        try (JsonGenerator gen = objectMapper.getFactory().createGenerator(OutputStream.nullOutputStream())) {
+            gen.writeStartArray();
+            for (Brand b : entities) {
+                writer.write(gen, b.getBrandId(), b.getBrandName(), b.getChain().getChainId(),
+                        b.getChain().getChainName(), b.getIsActive(), b.getCreatedAt(), b.getUpdatedAt(),
+                        b.getVersion());
+            }
+            gen.writeEndArray();
+        }
+    }
+}
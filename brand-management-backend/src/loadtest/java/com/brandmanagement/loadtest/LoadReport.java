@@ -0,0 +1,137 @@
+package com.brandmanagement.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Prints and saves the results of one run (one thread mode) and checks them against the SLOs.
+ *
+ * Files per mode under the output directory:
+ *   {mode}.csv                 one row per operation plus "all"
+ *   {mode}-{operation}.hgrm    HDR percentile distribution in milliseconds (plottable with
+ *                              HdrHistogram's plotter)
+ */
+final class LoadReport {
+
+    private static final String ROW = "%-16s %9s %8s %8s %10s %9s %9s %9s %9s%n";
+
+    private final String mode;
+    private final Map<Operation, OperationStats> stats;
+    private final Duration duration;
+
+    LoadReport(String mode, Map<Operation, OperationStats> stats, Duration duration) {
+        this.mode = mode;
+        this.stats = stats;
+        this.duration = duration;
+    }
+
+    /* ─── Summary table ─────────────────────────────────────────────── */
+    void print(PrintStream out) {
+        out.printf("%n=== %s threads, %s measured ===%n", mode, duration);
+        out.printf(ROW, "operation", "requests", "errors", "dropped", "ok/s", "p50 ms", "p99 ms", "p999 ms", "max ms");
+        for (OperationStats s : stats.values()) {
+            printRow(out, s.operation().key(), s.latency(), s.total(), s.errors(), s.dropped(), s.succeeded());
+        }
+        printRow(out, "all", merged(), total(), errors(), dropped(), succeeded());
+    }
+
+    private void printRow(PrintStream out, String name, Histogram h, long total, long errors, long dropped, long ok) {
+        out.printf(ROW, name, total, errors, dropped, fmt(throughput(ok)),
+                millis(h, 50), millis(h, 99), millis(h, 99.9), fmt(h.getMaxValue() / 1000.0));
+    }
+
+    /* ─── Files ─────────────────────────────────────────────────────── */
+    void write(Path dir) throws IOException {
+        Files.createDirectories(dir);
+        List<String> csv = new ArrayList<>();
+        csv.add("operation,requests,errors,dropped,ok_per_s,p50_ms,p99_ms,p999_ms,max_ms");
+        for (OperationStats s : stats.values()) {
+            csv.add(csvRow(s.operation().key(), s.latency(), s.total(), s.errors(), s.dropped(), s.succeeded()));
+            try (PrintStream hgrm = new PrintStream(Files.newOutputStream(
+                    dir.resolve(mode + "-" + s.operation().key() + ".hgrm")))) {
+                s.latency().outputPercentileDistribution(hgrm, 1000.0);
+            }
+        }
+        csv.add(csvRow("all", merged(), total(), errors(), dropped(), succeeded()));
+        Files.write(dir.resolve(mode + ".csv"), csv);
+    }
+
+    private String csvRow(String name, Histogram h, long total, long errors, long dropped, long ok) {
+        return String.join(",", name, String.valueOf(total), String.valueOf(errors), String.valueOf(dropped),
+                fmt(throughput(ok)), millis(h, 50), millis(h, 99), millis(h, 99.9), fmt(h.getMaxValue() / 1000.0));
+    }
+
+    /* ─── SLO gates ─────────────────────────────────────────────────── */
+    /** One line per breached SLO; empty when the run met all of them. */
+    List<String> sloViolations(LoadTestConfig config) {
+        List<String> violations = new ArrayList<>();
+        for (OperationStats s : stats.values()) {
+            Operation operation = s.operation();
+            if (s.total() == 0) {
+                continue;
+            }
+            check(violations, operation, "p99", s.latency().getValueAtPercentile(99), config.p99Slo().get(operation));
+            check(violations, operation, "p999", s.latency().getValueAtPercentile(99.9), config.p999Slo().get(operation));
+            if (s.errorRate() > config.maxErrorRate()) {
+                violations.add(String.format(Locale.ROOT, "%s %s: error rate %.4f > %.4f",
+                        mode, operation.key(), s.errorRate(), config.maxErrorRate()));
+            }
+        }
+        return violations;
+    }
+
+    private void check(List<String> violations, Operation operation, String percentile, long micros, Duration slo) {
+        if (micros > slo.toNanos() / 1000) {
+            violations.add(String.format(Locale.ROOT, "%s %s: %s %.1f ms > %d ms",
+                    mode, operation.key(), percentile, micros / 1000.0, slo.toMillis()));
+        }
+    }
+
+    /* ─── Totals ────────────────────────────────────────────────────── */
+    Histogram merged() {
+        Histogram all = new Histogram(3);
+        stats.values().forEach(s -> all.add(s.latency()));
+        return all;
+    }
+
+    double throughput(long ok) {
+        return ok / (duration.toNanos() / 1e9);
+    }
+
+    long succeeded() {
+        return stats.values().stream().mapToLong(OperationStats::succeeded).sum();
+    }
+
+    long errors() {
+        return stats.values().stream().mapToLong(OperationStats::errors).sum();
+    }
+
+    private long dropped() {
+        return stats.values().stream().mapToLong(OperationStats::dropped).sum();
+    }
+
+    private long total() {
+        return stats.values().stream().mapToLong(OperationStats::total).sum();
+    }
+
+    String mode() {
+        return mode;
+    }
+
+    static String millis(Histogram h, double percentile) {
+        return fmt(h.getValueAtPercentile(percentile) / 1000.0);
+    }
+
+    static String fmt(double value) {
+        return String.format(Locale.ROOT, "%.1f", value);
+    }
+}
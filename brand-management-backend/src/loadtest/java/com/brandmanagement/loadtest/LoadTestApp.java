@@ -0,0 +1,107 @@
+package com.brandmanagement.loadtest;
+
+import com.brandmanagement.BrandManagementApplication;
+import com.brandmanagement.dto.BrandBulkResultDTO;
+import com.brandmanagement.dto.BrandBulkRowResultDTO;
+import com.brandmanagement.dto.BrandRequestDTO;
+import com.brandmanagement.entity.Chain;
+import com.brandmanagement.repository.BrandOutboxRepository;
+import com.brandmanagement.repository.ChainRepository;
+import com.brandmanagement.service.BrandService;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Boots the application with its web server on a random port against a fresh embedded
+ * database (the "loadtest" profile) and seeds the catalog through the service layer.
+ */
+final class LoadTestApp {
+
+    private static final int SEED_BATCH = 10_000;
+    private static final Duration OUTBOX_DRAIN_TIMEOUT = Duration.ofMinutes(5);
+    private static final String H2_OPTIONS = "MODE=MySQL;DATABASE_TO_LOWER=TRUE";
+
+    private LoadTestApp() {
+    }
+
+    /** @param threadMode "platform" or "virtual" (spring.threads.virtual.enabled) */
+    static ConfigurableApplicationContext start(String threadMode) {
+        return start("brand_load_" + threadMode, threadMode);
+    }
+
+    /**
+     * @param database   name of the in-memory database, new per start; it is dropped when the pool closes
+     * @param extraArgs  further --name=value settings
+     */
+    static ConfigurableApplicationContext start(String database, String threadMode, String... extraArgs) {
+        if (!threadMode.equals("platform") && !threadMode.equals("virtual")) {
+            throw new IllegalArgumentException("Unknown thread mode: " + threadMode);
+        }
+        List<String> args = new ArrayList<>(List.of("--server.port=0",
+                "--spring.threads.virtual.enabled=" + threadMode.equals("virtual"),
+                "--spring.datasource.url=" + jdbcUrl(database)));
+        args.addAll(List.of(extraArgs));
+        return new SpringApplicationBuilder(BrandManagementApplication.class)
+                .profiles("loadtest")
+                .run(args.toArray(String[]::new));
+    }
+
+    static String jdbcUrl(String database) {
+        return "jdbc:h2:mem:" + database + ";" + H2_OPTIONS;
+    }
+
+    /** The same in-memory database as jdbcUrl, for the reactive read API's R2DBC pool. */
+    static String r2dbcUrl(String database) {
+        return "r2dbc:h2:mem:///" + database + "?options=" + H2_OPTIONS;
+    }
+
+    /**
+     * Creates the chains and brandsPerChain brands per chain (brand i in chain i MOD chains)
+     * and waits until the outbox relay has delivered their events, so that backlog does not
+     * compete with the measured requests.
+     */
+    static Workload seed(ConfigurableApplicationContext context, int chains, int brandsPerChain)
+            throws InterruptedException {
+        ChainRepository chainRepository = context.getBean(ChainRepository.class);
+        BrandService brandService = context.getBean(BrandService.class);
+
+        long[] chainIds = new long[chains];
+        for (int c = 0; c < chainIds.length; c++) {
+            chainIds[c] = chainRepository.save(Chain.builder().chainName("Load Chain " + c).build()).getChainId();
+        }
+
+        long[] brandIds = new long[chains * brandsPerChain];
+        for (int from = 0; from < brandIds.length; from += SEED_BATCH) {
+            int to = Math.min(from + SEED_BATCH, brandIds.length);
+            List<BrandRequestDTO> requests = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                requests.add(BrandRequestDTO.builder()
+                        .brandName("Load Brand " + i)
+                        .chainId(chainIds[i % chainIds.length])
+                        .build());
+            }
+            BrandBulkResultDTO result = brandService.createBrands(requests);
+            List<BrandBulkRowResultDTO> rows = result.getRows();
+            for (int i = 0; i < rows.size(); i++) {
+                brandIds[from + i] = rows.get(i).getBrandId();
+            }
+        }
+
+        BrandOutboxRepository outbox = context.getBean(BrandOutboxRepository.class);
+        long deadline = System.nanoTime() + OUTBOX_DRAIN_TIMEOUT.toNanos();
+        while (outbox.count() > 0) {
+            if (System.nanoTime() > deadline) {
+                throw new IllegalStateException("Outbox still holds seed events after " + OUTBOX_DRAIN_TIMEOUT);
+            }
+            Thread.sleep(200);
+        }
+
+        String port = context.getEnvironment().getRequiredProperty("local.server.port");
+        return new Workload(URI.create("http://localhost:" + port), chainIds, brandIds);
+    }
+}
@@ -0,0 +1,106 @@
+package com.brandmanagement.loadtest;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * Load-test settings: loadtest.properties from the classpath, overridden by name=value
+ * arguments (names without the "loadtest." prefix).
+ */
+record LoadTestConfig(
+        int chains,
+        int brandsPerChain,
+        double rate,
+        Duration warmup,
+        Duration duration,
+        int maxInFlight,
+        List<String> threadModes,
+        Map<Operation, Integer> mix,
+        Map<Operation, Duration> p99Slo,
+        Map<Operation, Duration> p999Slo,
+        double maxErrorRate,
+        boolean enforceSlos) {
+
+    private static final String PREFIX = "loadtest.";
+
+    static LoadTestConfig load(String... args) {
+        Properties props = properties(args);
+
+        Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+        Map<Operation, Duration> p99 = new EnumMap<>(Operation.class);
+        Map<Operation, Duration> p999 = new EnumMap<>(Operation.class);
+        Duration p99Default = duration(props, "slo.p99.default");
+        Duration p999Default = duration(props, "slo.p999.default");
+        for (Operation operation : Operation.values()) {
+            int weight = Integer.parseInt(props.getProperty(PREFIX + "mix." + operation.key(), "0").trim());
+            if (weight > 0) {
+                mix.put(operation, weight);
+            }
+            p99.put(operation, optionalDuration(props, "slo.p99." + operation.key()).orElse(p99Default));
+            p999.put(operation, optionalDuration(props, "slo.p999." + operation.key()).orElse(p999Default));
+        }
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("No operation has a positive loadtest.mix.* weight");
+        }
+
+        return new LoadTestConfig(
+                Integer.parseInt(required(props, "chains")),
+                Integer.parseInt(required(props, "brands-per-chain")),
+                Double.parseDouble(required(props, "rate")),
+                duration(props, "warmup"),
+                duration(props, "duration"),
+                Integer.parseInt(required(props, "max-in-flight")),
+                Arrays.stream(required(props, "thread-modes").split(",")).map(String::trim).toList(),
+                mix,
+                p99,
+                p999,
+                Double.parseDouble(required(props, "slo.max-error-rate")),
+                Boolean.parseBoolean(required(props, "slo.enforce")));
+    }
+
+    /** loadtest.properties overridden by name=value arguments; shared with SlowClientConfig. */
+    static Properties properties(String... args) {
+        Properties props = new Properties();
+        try (InputStream in = LoadTestConfig.class.getResourceAsStream("/loadtest.properties")) {
+            if (in != null) {
+                props.load(in);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            if (eq <= 0) {
+                throw new IllegalArgumentException("Expected name=value, got: " + arg);
+            }
+            String name = arg.substring(0, eq).replaceFirst("^--", "");
+            props.setProperty(name.startsWith(PREFIX) ? name : PREFIX + name, arg.substring(eq + 1));
+        }
+        return props;
+    }
+
+    int brands() {
+        return chains * brandsPerChain;
+    }
+
+    static String required(Properties props, String name) {
+        String value = props.getProperty(PREFIX + name);
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("Missing " + PREFIX + name);
+        }
+        return value.trim();
+    }
+
+    static Duration duration(Properties props, String name) {
+        return DurationStyle.detectAndParse(required(props, name));
+    }
+
+    private static Optional<Duration> optionalDuration(Properties props, String name) {
+        return Optional.ofNullable(props.getProperty(PREFIX + name)).map(String::trim).map(DurationStyle::detectAndParse);
+    }
+}
@@ -0,0 +1,76 @@
+package com.brandmanagement.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * HTTP load test of the brand API. For each configured thread mode: boots the application on
+ * a fresh embedded database, seeds the catalog, drives the configured mix at a fixed arrival
+ * rate, then prints and saves per-endpoint results (target/loadtest). Exits with status 1 when
+ * an SLO is breached and loadtest.slo.enforce is true, which fails the Maven build.
+ *
+ * Run with:  mvn -Ploadtest verify [-Dloadtest.args="rate=500 brands-per-chain=100000"]
+ *
+ * Generator and server share the JVM and the CPUs, so absolute numbers understate a dedicated
+ * server; compare runs made on the same machine.
+ */
+public final class LoadTestMain {
+
+    private static final Path OUTPUT = Path.of("target", "loadtest");
+
+    private LoadTestMain() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.load(args);
+        System.out.printf("Load test: %d chains x %d brands, %.0f req/s, warm-up %s, measured %s, mix %s%n",
+                config.chains(), config.brandsPerChain(), config.rate(), config.warmup(), config.duration(), config.mix());
+
+        List<LoadReport> reports = new ArrayList<>();
+        List<String> violations = new ArrayList<>();
+        for (String mode : config.threadModes()) {
+            LoadReport report;
+            try (ConfigurableApplicationContext context = LoadTestApp.start(mode);
+                 HttpClient client = HttpClient.newBuilder()
+                         .version(HttpClient.Version.HTTP_1_1)
+                         .connectTimeout(Duration.ofSeconds(5))
+                         .build()) {
+                Workload workload = LoadTestApp.seed(context, config.chains(), config.brandsPerChain());
+                report = new LoadReport(mode, new OpenLoopDriver(config, workload, client).run(), config.duration());
+            }
+            report.print(System.out);
+            report.write(OUTPUT);
+            reports.add(report);
+            violations.addAll(report.sloViolations(config));
+        }
+
+        if (reports.size() > 1) {
+            compare(reports);
+        }
+        if (violations.isEmpty()) {
+            System.out.println("\nAll SLOs met.");
+            System.exit(0);
+        }
+        System.out.println("\nSLO violations:");
+        violations.forEach(v -> System.out.println("  " + v));
+        System.exit(config.enforceSlos() ? 1 : 0);
+    }
+
+    /** Thread modes side by side: same rate, same pool size, whole mix. */
+    private static void compare(List<LoadReport> reports) {
+        String row = "%-10s %10s %8s %9s %9s %9s%n";
+        System.out.printf("%n=== Thread modes, all operations ===%n");
+        System.out.printf(row, "mode", "ok/s", "errors", "p50 ms", "p99 ms", "p999 ms");
+        for (LoadReport report : reports) {
+            Histogram all = report.merged();
+            System.out.printf(row, report.mode(), LoadReport.fmt(report.throughput(report.succeeded())),
+                    report.errors(), LoadReport.millis(all, 50), LoadReport.millis(all, 99), LoadReport.millis(all, 99.9));
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.brandmanagement.loadtest;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Sends the configured mix at a fixed arrival rate (open loop). Request n is scheduled at
+ * start + n / rate and runs on its own virtual thread, so a slow response never delays the
+ * next arrival. Latency is measured from the scheduled start, not the actual send, which
+ * keeps queueing in the generator or the server in the numbers (no coordinated omission).
+ */
+final class OpenLoopDriver {
+
+    private final LoadTestConfig config;
+    private final Workload workload;
+    private final HttpClient client;
+    private final Operation[] operations;
+    private final int[] cumulativeWeights;
+
+    OpenLoopDriver(LoadTestConfig config, Workload workload, HttpClient client) {
+        this.config = config;
+        this.workload = workload;
+        this.client = client;
+        this.operations = config.mix().keySet().toArray(Operation[]::new);
+        this.cumulativeWeights = new int[operations.length];
+        int sum = 0;
+        for (int i = 0; i < operations.length; i++) {
+            sum += config.mix().get(operations[i]);
+            cumulativeWeights[i] = sum;
+        }
+    }
+
+    /** Runs warm-up plus measurement; returns the stats of the measured requests. */
+    Map<Operation, OperationStats> run() {
+        Map<Operation, OperationStats> stats = new EnumMap<>(Operation.class);
+        for (Operation operation : operations) {
+            stats.put(operation, new OperationStats(operation));
+        }
+
+        long interval = (long) (1_000_000_000L / config.rate());
+        long start = System.nanoTime();
+        long measureFrom = start + config.warmup().toNanos();
+        long end = measureFrom + config.duration().toNanos();
+        AtomicInteger inFlight = new AtomicInteger();
+
+        // close() waits for the requests still in flight
+        try (ExecutorService requests = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long n = 0; ; n++) {
+                long scheduled = start + n * interval;
+                if (scheduled >= end) {
+                    break;
+                }
+                for (long wait; (wait = scheduled - System.nanoTime()) > 0; ) {
+                    LockSupport.parkNanos(wait);
+                }
+
+                Operation operation = pick();
+                OperationStats target = scheduled >= measureFrom ? stats.get(operation) : null;
+                if (inFlight.incrementAndGet() > config.maxInFlight()) {
+                    inFlight.decrementAndGet();
+                    if (target != null) {
+                        target.drop();
+                    }
+                    continue;
+                }
+                requests.execute(() -> {
+                    try {
+                        send(operation, scheduled, target);
+                    } finally {
+                        inFlight.decrementAndGet();
+                    }
+                });
+            }
+        }
+        return stats;
+    }
+
+    private void send(Operation operation, long scheduled, OperationStats target) {
+        HttpRequest request = operation.request(workload);
+        if (request == null) {
+            return;
+        }
+        boolean success;
+        try {
+            HttpResponse<?> response = client.send(request, operation.bodyHandler());
+            success = response.statusCode() < 400;
+            if (success) {
+                operation.succeeded(workload, response);
+            }
+        } catch (IOException e) {
+            success = false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        if (target != null) {
+            target.record(System.nanoTime() - scheduled, success);
+        }
+    }
+
+    private Operation pick() {
+        int r = ThreadLocalRandom.current().nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (r < cumulativeWeights[i]) {
+                return operations[i];
+            }
+        }
+        return operations[operations.length - 1];
+    }
+}
@@ -0,0 +1,121 @@
+package com.brandmanagement.loadtest;
+
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+/**
+ * The endpoints a load test can send, keyed by the name used in loadtest.properties.
+ */
+enum Operation {
+
+    CHAINS("chains") {
+        @Override
+        HttpRequest request(Workload w) {
+            return w.get("/api/chains");
+        }
+    },
+    CHAIN_SUMMARY("chain-summary") {
+        @Override
+        HttpRequest request(Workload w) {
+            return w.get("/api/chains/summary");
+        }
+    },
+    BRANDS_ALL("brands-all") {
+        @Override
+        HttpRequest request(Workload w) {
+            return w.get("/api/brands");
+        }
+    },
+    BRANDS_BY_CHAIN("brands-by-chain") {
+        @Override
+        HttpRequest request(Workload w) {
+            return w.get("/api/brands?chainId=" + w.randomChainId());
+        }
+    },
+    BRAND_PAGE("brand-page") {
+        @Override
+        HttpRequest request(Workload w) {
+            int brand = w.randomSeedBrand();
+            return w.get("/api/brands?limit=50&chainId=" + w.chainOf(brand) + "&after=" + w.brandId(brand));
+        }
+    },
+    BRAND_BY_ID("brand-by-id") {
+        @Override
+        HttpRequest request(Workload w) {
+            return w.get("/api/brands/" + w.brandId(w.randomSeedBrand()));
+        }
+    },
+    SEARCH("search") {
+        @Override
+        HttpRequest request(Workload w) {
+            return w.get("/api/brands/search?limit=10&q=" + w.randomSearchQuery());
+        }
+    },
+    LOOKUP("lookup") {
+        @Override
+        HttpRequest request(Workload w) {
+            return w.post("/api/brands/lookup", w.randomBrandIdsJson(50));
+        }
+    },
+    CREATE("create") {
+        @Override
+        HttpRequest request(Workload w) {
+            return w.post("/api/brands", w.brandJson(w.nextBrandName("Load New"), w.randomChainId()));
+        }
+
+        @Override
+        HttpResponse.BodyHandler<?> bodyHandler() {
+            return HttpResponse.BodyHandlers.ofString();
+        }
+
+        @Override
+        void succeeded(Workload w, HttpResponse<?> response) {
+            // Created brands are what DELETE removes, so deletes never hit seed brands
+            w.created((String) response.body());
+        }
+    },
+    UPDATE("update") {
+        @Override
+        HttpRequest request(Workload w) {
+            int brand = w.randomSeedBrand();
+            return w.put("/api/brands/" + w.brandId(brand), w.brandJson(w.nextBrandName("Load Edit"), w.chainOf(brand)));
+        }
+    },
+    DELETE("delete") {
+        @Override
+        HttpRequest request(Workload w) {
+            Long brandId = w.takeCreated();
+            return brandId == null ? null : w.delete("/api/brands/" + brandId);
+        }
+    };
+
+    private final String key;
+
+    Operation(String key) {
+        this.key = key;
+    }
+
+    String key() {
+        return key;
+    }
+
+    /** The next request of this kind, or null if there is nothing to send yet (DELETE before any CREATE). */
+    abstract HttpRequest request(Workload w);
+
+    /** Responses are read in full but not kept, except where the test needs the body. */
+    HttpResponse.BodyHandler<?> bodyHandler() {
+        return HttpResponse.BodyHandlers.discarding();
+    }
+
+    void succeeded(Workload w, HttpResponse<?> response) {
+    }
+
+    static Operation of(String key) {
+        for (Operation operation : values()) {
+            if (operation.key.equals(key)) {
+                return operation;
+            }
+        }
+        throw new IllegalArgumentException("Unknown load-test operation: " + key);
+    }
+}
@@ -0,0 +1,66 @@
+package com.brandmanagement.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Measured requests of one operation: an HDR histogram of latencies in microseconds
+ * (3 significant digits, up to 2 minutes) plus success, error and dropped counts.
+ */
+final class OperationStats {
+
+    private static final long HIGHEST_MICROS = TimeUnit.MINUTES.toMicros(2);
+
+    private final Operation operation;
+    private final Histogram latency = new ConcurrentHistogram(HIGHEST_MICROS, 3);
+    private final LongAdder succeeded = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    OperationStats(Operation operation) {
+        this.operation = operation;
+    }
+
+    void record(long latencyNanos, boolean success) {
+        latency.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), HIGHEST_MICROS));
+        (success ? succeeded : failed).increment();
+    }
+
+    /** A request that was due but not sent because max-in-flight was reached. */
+    void drop() {
+        dropped.increment();
+    }
+
+    Operation operation() {
+        return operation;
+    }
+
+    Histogram latency() {
+        return latency;
+    }
+
+    long succeeded() {
+        return succeeded.sum();
+    }
+
+    /** Error responses, transport failures and dropped requests. */
+    long errors() {
+        return failed.sum() + dropped.sum();
+    }
+
+    long dropped() {
+        return dropped.sum();
+    }
+
+    long total() {
+        return succeeded() + errors();
+    }
+
+    double errorRate() {
+        long total = total();
+        return total == 0 ? 0 : (double) errors() / total;
+    }
+}
@@ -0,0 +1,112 @@
+package com.brandmanagement.loadtest;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.r2dbc.pool.ConnectionPool;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+
+/**
+ * Samples the server's thread and database connection usage every 100 ms while clients run,
+ * and keeps the peaks:
+ *   JVM platform threads   whole process, clients' carrier threads included
+ *   Tomcat workers         http-nio-*-exec-* platform threads (none with virtual threads)
+ *   Netty threads          reactor-http-* event loops of the reactive read API
+ *   connections in use     Hikari active plus R2DBC acquired
+ *   connection waiters     requests waiting for a pooled connection, both pools
+ */
+final class ServerSampler implements AutoCloseable {
+
+    private static final Duration INTERVAL = Duration.ofMillis(100);
+
+    private final MeterRegistry registry;
+    private final ConnectionPool r2dbcPool;
+    private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    private final Thread thread;
+    private volatile boolean running = true;
+
+    // Written by the sampler thread only; read after close() has joined it
+    private int peakJvmThreads;
+    private int peakTomcatWorkers;
+    private int peakNettyThreads;
+    private int peakConnectionsInUse;
+    private int peakConnectionWaiters;
+
+    ServerSampler(ConfigurableApplicationContext context) {
+        registry = context.getBean(MeterRegistry.class);
+        r2dbcPool = context.getBeanProvider(ConnectionPool.class).getIfAvailable();
+        threads.resetPeakThreadCount();
+        thread = Thread.ofPlatform().name("slow-client-sampler").daemon().start(this::run);
+    }
+
+    private void run() {
+        while (running) {
+            sample();
+            try {
+                Thread.sleep(INTERVAL);
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    private void sample() {
+        int tomcat = 0;
+        int netty = 0;
+        // Platform threads only; virtual threads are not listed
+        for (Thread t : Thread.getAllStackTraces().keySet()) {
+            String name = t.getName();
+            if (name.startsWith("http-nio-") && name.contains("-exec-")) {
+                tomcat++;
+            } else if (name.startsWith("reactor-http-")) {
+                netty++;
+            }
+        }
+        peakTomcatWorkers = Math.max(peakTomcatWorkers, tomcat);
+        peakNettyThreads = Math.max(peakNettyThreads, netty);
+
+        int inUse = hikari("hikaricp.connections.active");
+        int waiting = hikari("hikaricp.connections.pending");
+        if (r2dbcPool != null && r2dbcPool.getMetrics().isPresent()) {
+            inUse += r2dbcPool.getMetrics().get().acquiredSize();
+            waiting += r2dbcPool.getMetrics().get().pendingAcquireSize();
+        }
+        peakConnectionsInUse = Math.max(peakConnectionsInUse, inUse);
+        peakConnectionWaiters = Math.max(peakConnectionWaiters, waiting);
+    }
+
+    private int hikari(String gauge) {
+        Gauge g = registry.find(gauge).tag("pool", "brand-pool").gauge();
+        return g == null ? 0 : (int) g.value();
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        running = false;
+        thread.join();
+        peakJvmThreads = threads.getPeakThreadCount();
+    }
+
+    int peakJvmThreads() {
+        return peakJvmThreads;
+    }
+
+    int peakTomcatWorkers() {
+        return peakTomcatWorkers;
+    }
+
+    int peakNettyThreads() {
+        return peakNettyThreads;
+    }
+
+    int peakConnectionsInUse() {
+        return peakConnectionsInUse;
+    }
+
+    int peakConnectionWaiters() {
+        return peakConnectionWaiters;
+    }
+}
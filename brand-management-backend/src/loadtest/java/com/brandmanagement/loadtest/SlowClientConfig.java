@@ -0,0 +1,38 @@
+package com.brandmanagement.loadtest;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * Slow-client comparison settings: loadtest.slow.* from loadtest.properties, overridden by
+ * name=value arguments (e.g. slow.clients=1000).
+ */
+record SlowClientConfig(
+        List<String> stacks,
+        int clients,
+        Duration rampUp,
+        int chains,
+        int brandsPerChain,
+        String path,
+        int readBytes,
+        Duration readInterval,
+        int receiveBuffer,
+        Duration timeout) {
+
+    static SlowClientConfig load(String... args) {
+        Properties props = LoadTestConfig.properties(args);
+        return new SlowClientConfig(
+                Arrays.stream(LoadTestConfig.required(props, "slow.stacks").split(",")).map(String::trim).toList(),
+                Integer.parseInt(LoadTestConfig.required(props, "slow.clients")),
+                LoadTestConfig.duration(props, "slow.ramp-up"),
+                Integer.parseInt(LoadTestConfig.required(props, "slow.chains")),
+                Integer.parseInt(LoadTestConfig.required(props, "slow.brands-per-chain")),
+                LoadTestConfig.required(props, "slow.path"),
+                Integer.parseInt(LoadTestConfig.required(props, "slow.read-bytes")),
+                LoadTestConfig.duration(props, "slow.read-interval"),
+                Integer.parseInt(LoadTestConfig.required(props, "slow.receive-buffer")),
+                LoadTestConfig.duration(props, "slow.timeout"));
+    }
+}
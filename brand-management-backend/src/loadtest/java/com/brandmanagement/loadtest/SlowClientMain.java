@@ -0,0 +1,204 @@
+package com.brandmanagement.loadtest;
+
+import com.brandmanagement.reactive.ReactiveReadServer;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Many slow clients against each read stack: every client requests the same large read
+ * (loadtest.slow.path) within the ramp-up and reads the response in small pieces, so the
+ * server spends most of the run writing to clients that are not ready.
+ *
+ * Stacks, each on a fresh embedded database:
+ *   mvc-platform   Tomcat on its platform thread pool (server.tomcat.threads.max)
+ *   mvc-virtual    Tomcat on virtual threads
+ *   reactive       the reactive read API (app.reactive.enabled) on its Netty port
+ *
+ * Prints and saves (target/loadtest/slow-clients.csv) completion times and the peak threads
+ * and database connections the server held. Informational; nothing is enforced.
+ *
+ * Run with:  mvn -Ploadtest verify -Dloadtest.main=com.brandmanagement.loadtest.SlowClientMain
+ *
+ * Embedded H2's R2DBC driver runs queries on the subscribing thread, so with H2 the reactive
+ * stack briefly blocks an event loop per query; connection counts are still representative.
+ */
+public final class SlowClientMain {
+
+    private static final Path OUTPUT = Path.of("target", "loadtest");
+    private static final long HIGHEST_MICROS = TimeUnit.HOURS.toMicros(1);
+    private static final String ROW = "%-13s %7s %7s %9s %9s %9s %8s %9s %8s %7s %7s %8s%n";
+
+    private SlowClientMain() {
+    }
+
+    record StackResult(String stack, long ok, long failed, Histogram completion, Duration wall, long bytes,
+                       ServerSampler peaks, Map<String, LongAdder> errors) {
+    }
+
+    public static void main(String[] args) throws Exception {
+        SlowClientConfig config = SlowClientConfig.load(args);
+        System.out.printf("Slow clients: %d clients over %s, GET %s (%d chains x %d brands), %d bytes every %s%n",
+                config.clients(), config.rampUp(), config.path(), config.chains(), config.brandsPerChain(),
+                config.readBytes(), config.readInterval());
+
+        List<StackResult> results = new ArrayList<>();
+        for (String stack : config.stacks()) {
+            StackResult result = run(stack, config);
+            result.errors().forEach((error, count) -> System.out.printf("  %s: %d x %s%n", stack, count.sum(), error));
+            results.add(result);
+        }
+        print(results, System.out);
+        write(results, OUTPUT.resolve("slow-clients.csv"));
+        System.exit(0);
+    }
+
+    /* ─── One stack ─────────────────────────────────────────────────── */
+    private static StackResult run(String stack, SlowClientConfig config) throws Exception {
+        String database = "brand_slow_" + stack.replace('-', '_');
+        String threadMode = switch (stack) {
+            case "mvc-platform", "reactive" -> "platform";
+            case "mvc-virtual" -> "virtual";
+            default -> throw new IllegalArgumentException("Unknown stack: " + stack);
+        };
+        String[] extraArgs = stack.equals("reactive")
+                ? new String[] {"--app.reactive.enabled=true", "--app.reactive.port=0",
+                        "--app.reactive.r2dbc.url=" + LoadTestApp.r2dbcUrl(database)}
+                : new String[0];
+
+        try (ConfigurableApplicationContext context = LoadTestApp.start(database, threadMode, extraArgs)) {
+            LoadTestApp.seed(context, config.chains(), config.brandsPerChain());
+            int port = stack.equals("reactive")
+                    ? context.getBean(ReactiveReadServer.class).port()
+                    : Integer.parseInt(context.getEnvironment().getRequiredProperty("local.server.port"));
+
+            Histogram completion = new ConcurrentHistogram(HIGHEST_MICROS, 3);
+            LongAdder ok = new LongAdder();
+            LongAdder failed = new LongAdder();
+            LongAdder bytes = new LongAdder();
+            Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+
+            long started = System.nanoTime();
+            ServerSampler sampler = new ServerSampler(context);
+            try (sampler; ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int i = 0; i < config.clients(); i++) {
+                    long startAt = started + config.rampUp().toNanos() * i / config.clients();
+                    clients.submit(() -> {
+                        sleepUntil(startAt);
+                        try {
+                            bytes.add(fetch(port, config));
+                            ok.increment();
+                        } catch (IOException | RuntimeException e) {
+                            failed.increment();
+                            errors.computeIfAbsent(e.getClass().getSimpleName() + ": " + e.getMessage(),
+                                    k -> new LongAdder()).increment();
+                        }
+                        long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startAt);
+                        completion.recordValue(Math.min(micros, HIGHEST_MICROS));
+                        return null;
+                    });
+                }
+            }
+            Duration wall = Duration.ofNanos(System.nanoTime() - started);
+            return new StackResult(stack, ok.sum(), failed.sum(), completion, wall, bytes.sum(), sampler, errors);
+        }
+    }
+
+    /**
+     * One client on a raw socket: HttpClient would read ahead into its own buffers and hide
+     * the slowness from the server. Returns the bytes read; fails on a non-200 status.
+     */
+    private static long fetch(int port, SlowClientConfig config) throws IOException, InterruptedException {
+        try (Socket socket = new Socket()) {
+            // Before connect, so the small window is advertised from the first segment
+            socket.setReceiveBufferSize(config.receiveBuffer());
+            socket.connect(new InetSocketAddress("localhost", port), 10_000);
+            socket.setSoTimeout((int) config.timeout().toMillis());
+
+            OutputStream out = socket.getOutputStream();
+            out.write(("GET " + config.path() + " HTTP/1.1\r\n"
+                    + "Host: localhost\r\n"
+                    + "Accept: application/json\r\n"
+                    + "Connection: close\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+            out.flush();
+
+            InputStream in = socket.getInputStream();
+            byte[] buffer = new byte[config.readBytes()];
+            long total = 0;
+            int n;
+            while ((n = in.read(buffer)) != -1) {
+                if (total == 0) {
+                    String statusLine = new String(buffer, 0, Math.min(n, 12), StandardCharsets.US_ASCII);
+                    if (!statusLine.endsWith(" 200")) {
+                        throw new IOException("Unexpected response: " + statusLine);
+                    }
+                }
+                total += n;
+                Thread.sleep(config.readInterval());
+            }
+            return total;
+        }
+    }
+
+    private static void sleepUntil(long nanoTime) {
+        long wait = nanoTime - System.nanoTime();
+        if (wait > 0) {
+            try {
+                Thread.sleep(Duration.ofNanos(wait));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /* ─── Report ────────────────────────────────────────────────────── */
+    private static void print(List<StackResult> results, PrintStream out) {
+        out.printf("%n=== Slow clients: completion per client, peak server usage ===%n");
+        out.printf(ROW, "stack", "ok", "failed", "p50 ms", "p99 ms", "max ms", "wall s",
+                "jvm thr", "tomcat", "netty", "db conn", "db wait");
+        for (StackResult r : results) {
+            out.printf(ROW, r.stack(), r.ok(), r.failed(),
+                    LoadReport.millis(r.completion(), 50), LoadReport.millis(r.completion(), 99),
+                    LoadReport.fmt(r.completion().getMaxValue() / 1000.0), LoadReport.fmt(r.wall().toMillis() / 1000.0),
+                    r.peaks().peakJvmThreads(), r.peaks().peakTomcatWorkers(), r.peaks().peakNettyThreads(),
+                    r.peaks().peakConnectionsInUse(), r.peaks().peakConnectionWaiters());
+        }
+        out.println("jvm thr counts the clients' carrier threads too; tomcat counts platform workers only.");
+    }
+
+    private static void write(List<StackResult> results, Path file) throws IOException {
+        Files.createDirectories(file.getParent());
+        List<String> csv = new ArrayList<>();
+        csv.add("stack,ok,failed,p50_ms,p99_ms,max_ms,wall_s,mb_read,peak_jvm_threads,peak_tomcat_workers,"
+                + "peak_netty_threads,peak_db_connections,peak_db_waiters");
+        for (StackResult r : results) {
+            csv.add(String.join(",", r.stack(), String.valueOf(r.ok()), String.valueOf(r.failed()),
+                    LoadReport.millis(r.completion(), 50), LoadReport.millis(r.completion(), 99),
+                    LoadReport.fmt(r.completion().getMaxValue() / 1000.0), LoadReport.fmt(r.wall().toMillis() / 1000.0),
+                    LoadReport.fmt(r.bytes() / 1_048_576.0),
+                    String.valueOf(r.peaks().peakJvmThreads()), String.valueOf(r.peaks().peakTomcatWorkers()),
+                    String.valueOf(r.peaks().peakNettyThreads()), String.valueOf(r.peaks().peakConnectionsInUse()),
+                    String.valueOf(r.peaks().peakConnectionWaiters())));
+        }
+        Files.write(file, csv);
+    }
+}
@@ -0,0 +1,119 @@
+package com.brandmanagement.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Queue;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The seeded catalog as the load generator sees it, and request builders over it.
+ * Seed brand i belongs to chain i MOD chains (see LoadTestApp.seed); seed brands are
+ * read and updated but never deleted.
+ */
+final class Workload {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    private final URI base;
+    private final long[] chainIds;
+    private final long[] brandIds;
+    private final Queue<Long> created = new ConcurrentLinkedQueue<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    Workload(URI base, long[] chainIds, long[] brandIds) {
+        this.base = base;
+        this.chainIds = chainIds;
+        this.brandIds = brandIds;
+    }
+
+    /* ─── Catalog ───────────────────────────────────────────────────── */
+    int randomSeedBrand() {
+        return ThreadLocalRandom.current().nextInt(brandIds.length);
+    }
+
+    long brandId(int seedBrand) {
+        return brandIds[seedBrand];
+    }
+
+    long chainOf(int seedBrand) {
+        return chainIds[seedBrand % chainIds.length];
+    }
+
+    long randomChainId() {
+        return chainIds[ThreadLocalRandom.current().nextInt(chainIds.length)];
+    }
+
+    String nextBrandName(String prefix) {
+        return prefix + " " + sequence.incrementAndGet();
+    }
+
+    /** Whole-name or token prefixes of seed names ("Load Brand 1234"), as a typeahead sends them. */
+    String randomSearchQuery() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String query = switch (random.nextInt(4)) {
+            case 0 -> "load br";
+            case 1 -> "brand " + random.nextInt(1, 1000);
+            case 2 -> String.valueOf(random.nextInt(1, 1000));
+            default -> "lo";
+        };
+        return URLEncoder.encode(query, StandardCharsets.UTF_8);
+    }
+
+    String randomBrandIdsJson(int count) {
+        StringJoiner ids = new StringJoiner(",", "[", "]");
+        for (int i = 0; i < count; i++) {
+            ids.add(String.valueOf(brandIds[randomSeedBrand()]));
+        }
+        return ids.toString();
+    }
+
+    String brandJson(String brandName, long chainId) {
+        return "{\"brandName\":\"" + brandName + "\",\"chainId\":" + chainId + "}";
+    }
+
+    void created(String responseBody) {
+        try {
+            created.add(JSON.readTree(responseBody).path("brandId").asLong());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    Long takeCreated() {
+        return created.poll();
+    }
+
+    /* ─── Requests ──────────────────────────────────────────────────── */
+    HttpRequest get(String path) {
+        return builder(path).GET().build();
+    }
+
+    HttpRequest post(String path, String json) {
+        return builder(path).header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json)).build();
+    }
+
+    HttpRequest put(String path, String json) {
+        return builder(path).header("Content-Type", "application/json")
+                .PUT(HttpRequest.BodyPublishers.ofString(json)).build();
+    }
+
+    HttpRequest delete(String path) {
+        return builder(path).DELETE().build();
+    }
+
+    private HttpRequest.Builder builder(String path) {
+        return HttpRequest.newBuilder(base.resolve(path)).timeout(REQUEST_TIMEOUT);
+    }
+}
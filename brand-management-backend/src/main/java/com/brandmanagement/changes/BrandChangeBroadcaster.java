@@ -0,0 +1,190 @@
+package com.brandmanagement.changes;
+
+import com.brandmanagement.datasource.PrimaryPin;
+import com.brandmanagement.dto.BrandChangeDTO;
+import com.brandmanagement.dto.BrandChangePageDTO;
+import com.brandmanagement.service.BrandChangeService;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Pushes committed brand changes to server-sent-event subscribers.
+ * Each subscriber has its own bounded backlog, drained on a virtual thread, so a slow client
+ * delays neither the committing request nor the other subscribers. A subscriber whose backlog
+ * is full is disconnected; it resumes from its last event id (Last-Event-ID) on reconnect.
+ *
+ * A subscriber with a token first replays the feed after it on that same virtual thread; live
+ * changes published meanwhile wait in the backlog. Every subscriber skips changes at or before
+ * the last token it sent, so event ids only increase and a replayed change is not sent twice.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BrandChangeBroadcaster {
+
+    private static final long EMITTER_TIMEOUT_MS = Duration.ofMinutes(30).toMillis();
+    static final int SUBSCRIBER_BACKLOG = 1_000;
+    static final int REPLAY_PAGE_SIZE = 500;
+
+    private final BrandChangeService brandChangeService;
+
+    private final Map<SseEmitter, Subscriber> subscribers = new ConcurrentHashMap<>();
+    private final ExecutorService sender = Executors.newVirtualThreadPerTaskExecutor();
+
+    /** Subscribes to live changes, after replaying those after the token if one is given. */
+    public SseEmitter subscribe(String token) {
+        return subscribe(new SseEmitter(EMITTER_TIMEOUT_MS), token);
+    }
+
+    SseEmitter subscribe(SseEmitter emitter, String token) {
+        // Decoded here so a malformed token is rejected with the request, not on the sender
+        ChangeToken from = token == null ? null : ChangeToken.decode(token);
+        Subscriber subscriber = new Subscriber(emitter, from);
+        // Registered before the replay starts, so a change polled meanwhile is queued, not missed
+        subscribers.put(emitter, subscriber);
+        emitter.onCompletion(() -> subscribers.remove(emitter));
+        emitter.onTimeout(() -> subscribers.remove(emitter));
+        emitter.onError(e -> subscribers.remove(emitter));
+        if (from != null) {
+            subscriber.startReplay();
+        }
+        return emitter;
+    }
+
+    public void publish(List<BrandChangeDTO> changes) {
+        if (changes.isEmpty() || subscribers.isEmpty()) {
+            return;
+        }
+        for (Subscriber subscriber : subscribers.values()) {
+            subscriber.enqueue(changes);
+        }
+    }
+
+    int subscriberCount() {
+        return subscribers.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sender.shutdownNow();
+        subscribers.keySet().forEach(SseEmitter::complete);
+    }
+
+    private final class Subscriber {
+        private final SseEmitter emitter;
+        private final Queue<BrandChangeDTO> backlog = new ArrayBlockingQueue<>(SUBSCRIBER_BACKLOG);
+        // Set while a drain task is scheduled or running
+        private final AtomicBoolean draining = new AtomicBoolean();
+        // Only drain tasks, which never overlap, touch these two; replayFrom is cleared once replayed
+        private ChangeToken replayFrom;
+        private ChangeToken lastSent;
+
+        private Subscriber(SseEmitter emitter, ChangeToken replayFrom) {
+            this.emitter = emitter;
+            this.replayFrom = replayFrom;
+            this.lastSent = replayFrom;
+        }
+
+        private void startReplay() {
+            if (draining.compareAndSet(false, true)) {
+                sender.execute(this::drain);
+            }
+        }
+
+        private void enqueue(List<BrandChangeDTO> changes) {
+            for (BrandChangeDTO change : changes) {
+                if (!backlog.offer(change)) {
+                    log.debug("Dropping brand change subscriber: {} changes behind", SUBSCRIBER_BACKLOG);
+                    disconnect();
+                    return;
+                }
+            }
+            if (draining.compareAndSet(false, true)) {
+                sender.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            if (replayFrom != null && !replay()) {
+                return;
+            }
+            do {
+                BrandChangeDTO change;
+                while ((change = backlog.poll()) != null) {
+                    if (!sendInOrder(change)) {
+                        backlog.clear();
+                        return;
+                    }
+                }
+                draining.set(false);
+                // Recheck: a change offered between the last poll and the reset found draining set
+            } while (!backlog.isEmpty() && draining.compareAndSet(false, true));
+        }
+
+        private boolean replay() {
+            String token = replayFrom.encode();
+            replayFrom = null;
+            // Same source as the poller: a lagging replica would leave a gap before the live changes
+            boolean pinned = PrimaryPin.pin();
+            try {
+                BrandChangePageDTO page;
+                do {
+                    page = brandChangeService.getChangesSince(token, REPLAY_PAGE_SIZE);
+                    for (BrandChangeDTO change : page.getChanges()) {
+                        if (!sendInOrder(change)) {
+                            return false;
+                        }
+                    }
+                    token = page.getNextToken();
+                } while (page.isHasMore());
+                return true;
+            } catch (RuntimeException e) {
+                log.warn("Brand change replay failed; closing the stream: {}", e.toString());
+                disconnect();
+                return false;
+            } finally {
+                PrimaryPin.restore(pinned);
+            }
+        }
+
+        /** Sends the change unless it is not past the last one sent; false once the connection is gone. */
+        private boolean sendInOrder(BrandChangeDTO change) {
+            ChangeToken token = ChangeToken.decode(change.getToken());
+            if (lastSent != null && token.compareTo(lastSent) <= 0) {
+                return true;
+            }
+            try {
+                emitter.send(SseEmitter.event()
+                        .id(change.getToken())
+                        .name(change.getType().name().toLowerCase())
+                        .data(change));
+            } catch (IOException | IllegalStateException e) {
+                log.debug("Dropping brand change subscriber: {}", e.getMessage());
+                subscribers.remove(emitter);
+                return false;
+            }
+            lastSent = token;
+            return true;
+        }
+
+        private void disconnect() {
+            subscribers.remove(emitter);
+            backlog.clear();
+            emitter.complete();
+        }
+    }
+}
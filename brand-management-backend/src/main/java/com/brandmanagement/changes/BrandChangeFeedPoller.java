@@ -0,0 +1,102 @@
+package com.brandmanagement.changes;
+
+import com.brandmanagement.datasource.PrimaryPin;
+import com.brandmanagement.dto.BrandChangePageDTO;
+import com.brandmanagement.search.BrandSearchIndex;
+import com.brandmanagement.service.BrandChangeService;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Follows the change feed on this instance and hands every change, in feed order, to the
+ * local search index and change-stream subscribers.
+ *
+ * Each instance polls for itself, so a write made through any instance reaches every
+ * index and subscriber. (The outbox cannot fan out: each of its events goes to one relay and
+ * is deleted.) The feed holds changes back for app.changes.settle-lag, so a change arrives
+ * at most settle-lag plus one poll interval after its commit, and never behind a later one.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BrandChangeFeedPoller {
+
+    static final int PAGE_SIZE = 500;
+
+    private final BrandChangeService brandChangeService;
+    private final BrandSearchIndex searchIndex;
+    private final BrandChangeBroadcaster changeBroadcaster;
+
+    @Value("${app.changes.poll.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.changes.poll.interval:1s}")
+    private Duration pollInterval;
+
+    @Value("${app.changes.settle-lag:5s}")
+    private Duration settleLag;
+
+    // Taken when the bean is created, so polling starts before the search index build reads the catalog
+    private final LocalDateTime createdAt = LocalDateTime.now();
+    private volatile boolean running;
+    private volatile Thread thread;
+    private String cursor;
+
+    /* ─── Lifecycle ─────────────────────────────────────────────────── */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (!enabled || running) {
+            return;
+        }
+        cursor = ChangeToken.of(createdAt.minus(settleLag), 0).encode();
+        running = true;
+        thread = Thread.ofPlatform().name("brand-change-poller").daemon().start(this::follow);
+        log.info("Brand change feed poller started: every {}, settle lag {}", pollInterval, settleLag);
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        Thread poller = thread;
+        if (poller != null) {
+            poller.interrupt();
+        }
+    }
+
+    /* ─── Poll loop ─────────────────────────────────────────────────── */
+    private void follow() {
+        // A lagging replica would let a change slip behind the cursor for good
+        PrimaryPin.pin();
+        while (running) {
+            try {
+                poll();
+            } catch (RuntimeException e) {
+                log.warn("Brand change feed poll failed; retrying: {}", e.toString());
+            }
+            try {
+                Thread.sleep(pollInterval);
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    /** Reads the feed from the cursor to its current end, publishing page by page. */
+    void poll() {
+        BrandChangePageDTO page;
+        do {
+            page = brandChangeService.getChangesSince(cursor, PAGE_SIZE);
+            searchIndex.apply(page.getChanges());
+            changeBroadcaster.publish(page.getChanges());
+            cursor = page.getNextToken();
+        } while (page.isHasMore());
+    }
+}
@@ -0,0 +1,51 @@
+package com.brandmanagement.changes;
+
+import com.brandmanagement.exception.InvalidChangeTokenException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.Comparator;
+
+/**
+ * Opaque change-feed position: the (updated_at, brand_id) of the last change seen.
+ * Timestamps are truncated to microseconds to match the datetime(6) column.
+ * Ordered like the feed.
+ */
+public record ChangeToken(LocalDateTime updatedAt, long brandId) implements Comparable<ChangeToken> {
+
+    private static final Comparator<ChangeToken> FEED_ORDER = Comparator
+            .comparing(ChangeToken::updatedAt)
+            .thenComparingLong(ChangeToken::brandId);
+
+    public static final ChangeToken START = new ChangeToken(LocalDateTime.of(1970, 1, 1, 0, 0), 0);
+
+    public static ChangeToken of(LocalDateTime updatedAt, long brandId) {
+        return new ChangeToken(updatedAt.truncatedTo(ChronoUnit.MICROS), brandId);
+    }
+
+    @Override
+    public int compareTo(ChangeToken other) {
+        return FEED_ORDER.compare(this, other);
+    }
+
+    public String encode() {
+        String raw = updatedAt + "|" + brandId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ChangeToken decode(String token) {
+        if (token == null || token.isBlank()) {
+            return START;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int sep = raw.indexOf('|');
+            return new ChangeToken(LocalDateTime.parse(raw.substring(0, sep)), Long.parseLong(raw.substring(sep + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+            throw new InvalidChangeTokenException(token);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.brandmanagement.coalescing;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * SingleFlight for the reactive read API: the first subscriber for a key runs the query, and
+ * subscribers arriving while it is in flight share its result (or error) without waiting on a
+ * thread. Nothing is kept once the query completes.
+ *
+ * The metric key is the query name ("reactive:" prefixed), never the ID, to keep tags bounded.
+ *
+ * Meter: brand.singleflight.calls counter (key, result = executed | shared)
+ */
+@Component
+@RequiredArgsConstructor
+public class ReactiveSingleFlight {
+
+    private final MeterRegistry registry;
+
+    private final ConcurrentHashMap<String, Mono<?>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * @param name  query name, e.g. "brands:chain"
+     * @param id    what the query is for (chain ID, brand ID), or null for whole-catalog queries
+     * @param query builds the query; only called by the subscriber that runs it
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Mono<T> load(String name, Object id, Supplier<Mono<T>> query) {
+        String flightKey = id == null ? name : name + ":" + id;
+        return Mono.defer(() -> {
+            boolean[] leader = {false};
+            Mono<T> flight = (Mono<T>) inFlight.computeIfAbsent(flightKey, key -> {
+                leader[0] = true;
+                // cache() runs the query once, whoever subscribes or cancels
+                return query.get()
+                        .doFinally(signal -> inFlight.remove(key))
+                        .cache();
+            });
+            count(name, leader[0] ? "executed" : "shared");
+            return flight;
+        });
+    }
+
+    private void count(String name, String result) {
+        Counter.builder("brand.singleflight.calls")
+                .description("Coalesced reads: executed queries vs. callers that shared one")
+                .tag("key", "reactive:" + name)
+                .tag("result", result)
+                .register(registry)
+                .increment();
+    }
+}
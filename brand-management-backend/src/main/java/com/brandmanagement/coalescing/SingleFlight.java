@@ -0,0 +1,88 @@
+package com.brandmanagement.coalescing;
+
+import com.brandmanagement.datasource.PrimaryPin;
+import com.brandmanagement.sharding.ShardKey;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent identical reads: the first caller for a key runs the query in a
+ * read-only transaction, and callers arriving while it is in flight wait for and share
+ * its result (or exception). Nothing is kept once the query completes.
+ *
+ * Callers must not already be in a transaction, so waiters hold no pooled connection.
+ * Threads pinned to the primary (read-your-writes) always run their own query.
+ *
+ * Meter: brand.singleflight.calls counter (key, result = executed | shared)
+ */
+@Component
+@RequiredArgsConstructor
+public class SingleFlight {
+
+    private final MeterRegistry registry;
+    private final PlatformTransactionManager transactionManager;
+
+    private final ConcurrentHashMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    @SuppressWarnings("unchecked")
+    public <T> T readOnly(String key, Supplier<T> query) {
+        if (PrimaryPin.isPinned()) {
+            return runReadOnly(query);
+        }
+        // The same query on different shards reads different data
+        Integer shard = ShardKey.current();
+        String flightKey = shard == null ? key : key + "@" + shard;
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> leader = inFlight.putIfAbsent(flightKey, mine);
+        if (leader != null) {
+            count(key, "shared");
+            return (T) await(leader);
+        }
+
+        count(key, "executed");
+        try {
+            T result = runReadOnly(query);
+            mine.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(flightKey, mine);
+        }
+    }
+
+    private <T> T runReadOnly(Supplier<T> query) {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setReadOnly(true);
+        return tx.execute(status -> query.get());
+    }
+
+    private static Object await(CompletableFuture<Object> leader) {
+        try {
+            return leader.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException re) throw re;
+            if (e.getCause() instanceof Error err) throw err;
+            throw e;
+        }
+    }
+
+    private void count(String key, String result) {
+        Counter.builder("brand.singleflight.calls")
+                .description("Coalesced reads: executed queries vs. callers that shared one")
+                .tag("key", key)
+                .tag("result", result)
+                .register(registry)
+                .increment();
+    }
+}
@@ -0,0 +1,59 @@
+package com.brandmanagement.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * In-process read-through caches for chain and brand lookups.
+ * Each cache is bounded by size and TTL and records hit/miss/eviction stats,
+ * which Actuator publishes as cache.gets / cache.evictions metrics.
+ *
+ * The cache interceptor runs outside the transaction interceptor. A hit never opens a
+ * transaction, and with @Cacheable(sync = true) concurrent misses for one key wait for a
+ * single load without each holding a pooled connection.
+ */
+@Configuration
+@EnableCaching(order = Ordered.LOWEST_PRECEDENCE - 1)
+public class CacheConfig {
+
+    public static final String CHAINS = "chains";
+    public static final String BRAND_BY_ID = "brandById";
+    public static final String BRANDS_BY_CHAIN = "brandsByChain";
+    public static final String CHAIN_SUMMARY = "chainSummary";
+
+    @Bean
+    public CacheManager cacheManager(
+            @Value("${app.cache.chains.ttl:10m}") Duration chainsTtl,
+            @Value("${app.cache.brand-by-id.ttl:5m}") Duration brandByIdTtl,
+            @Value("${app.cache.brand-by-id.max-size:10000}") long brandByIdMaxSize,
+            @Value("${app.cache.brands-by-chain.ttl:5m}") Duration brandsByChainTtl,
+            @Value("${app.cache.brands-by-chain.max-size:200}") long brandsByChainMaxSize,
+            @Value("${app.cache.chain-summary.ttl:1m}") Duration chainSummaryTtl) {
+        CaffeineCacheManager manager = new CaffeineCacheManager();
+        // Only the caches registered below exist; unknown names fail fast
+        manager.setCacheNames(List.of());
+        manager.registerCustomCache(CHAINS, build(chainsTtl, 1));
+        manager.registerCustomCache(BRAND_BY_ID, build(brandByIdTtl, brandByIdMaxSize));
+        manager.registerCustomCache(BRANDS_BY_CHAIN, build(brandsByChainTtl, brandsByChainMaxSize));
+        manager.registerCustomCache(CHAIN_SUMMARY, build(chainSummaryTtl, 1));
+        return manager;
+    }
+
+    private Cache<Object, Object> build(Duration ttl, long maxSize) {
+        return Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+    }
+}
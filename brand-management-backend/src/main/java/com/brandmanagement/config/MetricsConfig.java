@@ -0,0 +1,55 @@
+package com.brandmanagement.config;
+
+import com.brandmanagement.metrics.RequestSqlMetricsInterceptor;
+import com.brandmanagement.metrics.SqlExecutionLogger;
+import com.brandmanagement.metrics.SqlStatementCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Wraps the application DataSource so every statement, whether issued by Hibernate or
+ * JdbcTemplate, is counted per thread by SqlStatementCounter and timed by SqlExecutionLogger
+ * (elapsed time and bind parameters). An MVC interceptor publishes the count for /api requests.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class MetricsConfig implements WebMvcConfigurer {
+
+    private final MeterRegistry registry;
+
+    @Bean
+    public static BeanPostProcessor dataSourceProxyPostProcessor(
+            @Value("${app.sql.slow-query-threshold:200ms}") Duration threshold,
+            @Value("${app.sql.sample-rate:0}") double sampleRate) {
+        SqlStatementCounter counter = new SqlStatementCounter();
+        SqlExecutionLogger logger = new SqlExecutionLogger(threshold, sampleRate);
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                // Only the DataSource the application uses; pools behind it stay unwrapped
+                if ("dataSource".equals(beanName) && bean instanceof DataSource dataSource) {
+                    return ProxyDataSourceBuilder.create(dataSource).name(beanName)
+                            .listener(counter)
+                            .listener(logger)
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry interceptors) {
+        interceptors.addInterceptor(new RequestSqlMetricsInterceptor(registry)).addPathPatterns("/api/**");
+    }
+}
@@ -0,0 +1,36 @@
+package com.brandmanagement.config;
+
+import com.brandmanagement.ratelimit.WriteRateLimitInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Per-client token-bucket limit on brand write endpoints.
+ * Each client may burst up to capacity writes, then sustain refill-per-second.
+ */
+@Configuration
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.rate-limit.writes", name = "enabled", matchIfMissing = true)
+public class RateLimitConfig implements WebMvcConfigurer {
+
+    private final MeterRegistry registry;
+
+    @Value("${app.rate-limit.writes.capacity:20}")
+    private int capacity;
+
+    @Value("${app.rate-limit.writes.refill-per-second:5}")
+    private double refillPerSecond;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry interceptors) {
+        interceptors.addInterceptor(new WriteRateLimitInterceptor(registry, capacity, refillPerSecond))
+                .addPathPatterns("/api/brands", "/api/brands/**")
+                // A read sent as POST only because the ID list is too long for a query string
+                .excludePathPatterns("/api/brands/lookup");
+    }
+}
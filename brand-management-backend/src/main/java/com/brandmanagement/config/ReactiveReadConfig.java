@@ -0,0 +1,53 @@
+package com.brandmanagement.config;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import java.time.Duration;
+
+/**
+ * Non-blocking database access for the reactive read API (app.reactive.enabled).
+ *
+ * The R2DBC pool is separate from Hikari and only serves the reactive reads; writes and every
+ * MVC endpoint keep using JPA. Boot's R2DBC auto-configuration is excluded in
+ * application.properties: its R2dbcTransactionManager would sit next to the JPA one and make
+ * plain @Transactional ambiguous. Pool gauges are published as r2dbc.pool.* (name=brand-reactive-pool).
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.reactive", name = "enabled", havingValue = "true")
+public class ReactiveReadConfig {
+
+    public static final String POOL_NAME = "brand-reactive-pool";
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionPool reactiveConnectionPool(
+            @Value("${app.reactive.r2dbc.url}") String url,
+            @Value("${app.reactive.r2dbc.username:${spring.datasource.username}}") String username,
+            @Value("${app.reactive.r2dbc.password:${spring.datasource.password}}") String password,
+            @Value("${app.reactive.r2dbc.pool-size:10}") int poolSize,
+            @Value("${app.reactive.r2dbc.acquire-timeout:3s}") Duration acquireTimeout) {
+        ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(url).mutate()
+                .option(ConnectionFactoryOptions.USER, username)
+                .option(ConnectionFactoryOptions.PASSWORD, password)
+                .build();
+        return new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options))
+                .name(POOL_NAME)
+                .initialSize(Math.min(2, poolSize))
+                .maxSize(poolSize)
+                // Like Hikari's connection-timeout: fail fast rather than queue without bound
+                .maxAcquireTime(acquireTimeout)
+                .build());
+    }
+
+    @Bean
+    public DatabaseClient reactiveDatabaseClient(ConnectionPool reactiveConnectionPool) {
+        return DatabaseClient.create(reactiveConnectionPool);
+    }
+}
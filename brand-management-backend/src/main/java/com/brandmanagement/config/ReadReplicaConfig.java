@@ -0,0 +1,83 @@
+package com.brandmanagement.config;
+
+import com.brandmanagement.datasource.ReadYourWritesInterceptor;
+import com.brandmanagement.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Routes @Transactional(readOnly = true) work to read replicas when
+ * app.datasource.replica.urls is set; otherwise Boot's single datasource is used as before.
+ *
+ * The application DataSource is a LazyConnectionDataSourceProxy over the primary. It only
+ * fetches a physical connection at the first statement, after the transaction has marked
+ * the connection read-only, and sends read-only connections to ReplicaRoutingDataSource.
+ * Replica pools copy the primary's Hikari settings and report metrics as brand-replica-N.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.replica", name = "urls")
+public class ReadReplicaConfig implements WebMvcConfigurer {
+
+    @Value("${app.datasource.replica.read-your-writes-window:10s}")
+    private Duration readYourWritesWindow;
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaDataSource(
+            HikariDataSource primaryDataSource,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${app.datasource.replica.urls}") List<String> urls,
+            @Value("${app.datasource.replica.retry-after:30s}") Duration retryAfter) {
+        List<DataSource> replicas = new ArrayList<>(urls.size());
+        for (int i = 0; i < urls.size(); i++) {
+            // No-arg constructor: the pool starts on first use, so a down replica cannot block startup
+            HikariDataSource replica = new HikariDataSource();
+            primaryDataSource.copyStateTo(replica);
+            replica.setJdbcUrl(urls.get(i).trim());
+            replica.setPoolName("brand-replica-" + (i + 1));
+            replica.setReadOnly(true);
+            meterRegistry.ifAvailable(registry ->
+                    replica.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry)));
+            replicas.add(replica);
+        }
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas, retryAfter);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaRoutingDataSource replicaDataSource) {
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(primaryDataSource);
+        proxy.setReadOnlyDataSource(replicaDataSource);
+        return proxy;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry interceptors) {
+        // The batch lookup is a read sent as POST; it must not count as a write
+        interceptors.addInterceptor(new ReadYourWritesInterceptor(readYourWritesWindow))
+                .addPathPatterns("/api/**")
+                .excludePathPatterns("/api/brands/lookup");
+    }
+}
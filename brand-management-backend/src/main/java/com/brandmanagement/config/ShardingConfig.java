@@ -0,0 +1,82 @@
+package com.brandmanagement.config;
+
+import com.brandmanagement.sharding.ShardRouter;
+import com.brandmanagement.sharding.ShardRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.flywaydb.core.Flyway;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Spreads brands over several databases when app.shards.urls is set; otherwise Boot's single
+ * datasource is used as before. spring.datasource is shard 0 and app.shards.urls lists
+ * shards 1..n, whose pools copy shard 0's Hikari settings and report metrics as brand-shard-N.
+ *
+ * The application DataSource routes each connection by ShardKey. The Sharded*ServiceImpl
+ * beans set the key before the wrapped service opens its transaction. Flyway migrates every
+ * shard, passing each one its shard-index and the shard-count.
+ *
+ * Not combined with read replicas (app.datasource.replica.urls).
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.shards", name = "urls")
+public class ShardingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            HikariDataSource primaryDataSource,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${app.shards.urls}") List<String> urls) {
+        List<DataSource> shards = new ArrayList<>();
+        shards.add(primaryDataSource);
+        for (String url : urls) {
+            if (url.isBlank()) continue;
+            HikariDataSource shard = new HikariDataSource();
+            primaryDataSource.copyStateTo(shard);
+            shard.setJdbcUrl(url.trim());
+            shard.setPoolName("brand-shard-" + shards.size());
+            meterRegistry.ifAvailable(registry ->
+                    shard.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry)));
+            shards.add(shard);
+        }
+        return new ShardRoutingDataSource(shards);
+    }
+
+    @Bean
+    public FlywayMigrationStrategy shardedMigrationStrategy(ShardRouter shardRouter) {
+        return flyway -> {
+            for (int shard = 0; shard < shardRouter.count(); shard++) {
+                Map<String, String> placeholders = new HashMap<>(flyway.getConfiguration().getPlaceholders());
+                placeholders.put("shard-count", String.valueOf(shardRouter.count()));
+                placeholders.put("shard-index", String.valueOf(shard));
+                Flyway shardFlyway = Flyway.configure(flyway.getConfiguration().getClassLoader())
+                        .configuration(flyway.getConfiguration())
+                        .placeholders(placeholders)
+                        .load();
+                shardRouter.run(shard, shardFlyway::migrate);
+            }
+        };
+    }
+}
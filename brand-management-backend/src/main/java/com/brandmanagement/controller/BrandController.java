@@ -1,14 +1,33 @@
 package com.brandmanagement.controller;
 
+import com.brandmanagement.changes.BrandChangeBroadcaster;
+import com.brandmanagement.dto.BrandBulkDeleteResultDTO;
+import com.brandmanagement.dto.BrandBulkResultDTO;
+import com.brandmanagement.dto.BrandChangePageDTO;
 import com.brandmanagement.dto.BrandDTO;
+import com.brandmanagement.dto.BrandLookupResultDTO;
+import com.brandmanagement.dto.BrandPageDTO;
 import com.brandmanagement.dto.BrandRequestDTO;
+import com.brandmanagement.dto.BrandSearchResultDTO;
+import com.brandmanagement.dto.CatalogStampDTO;
+import com.brandmanagement.json.BrandJsonWriter;
+import com.brandmanagement.service.BrandChangeService;
 import com.brandmanagement.service.BrandService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
 import java.util.List;
 
 @RestController
@@ -17,27 +36,139 @@ import java.util.List;
 public class BrandController {
 
     private final BrandService brandService;
+    private final BrandChangeService brandChangeService;
+    private final BrandChangeBroadcaster changeBroadcaster;
+    private final ObjectMapper objectMapper;
 
     /**
      * GET /api/brands
      * Returns all active brands. Optionally filter by chainId.
+     * Supports If-None-Match / If-Modified-Since: 304 is answered from the catalog
+     * version alone, before any brand is loaded.
      */
     @GetMapping
     public ResponseEntity<List<BrandDTO>> getAllBrands(
-            @RequestParam(required = false) Long chainId) {
+            @RequestParam(required = false) Long chainId,
+            WebRequest webRequest) {
+        if (notModified(webRequest, brandService.getCatalogStamp())) {
+            return null;
+        }
         if (chainId != null) {
             return ResponseEntity.ok(brandService.getBrandsByChain(chainId));
         }
         return ResponseEntity.ok(brandService.getAllActiveBrands());
     }
 
+    /**
+     * GET /api/brands?limit={n}&after={cursor}
+     * Returns one keyset page of active brands ordered by ID. Optionally filter by chainId.
+     * Pass the returned nextCursor as "after" to fetch the following page.
+     */
+    @GetMapping(params = "limit")
+    public ResponseEntity<BrandPageDTO> getBrandPage(
+            @RequestParam int limit,
+            @RequestParam(required = false) Long after,
+            @RequestParam(required = false) Long chainId,
+            WebRequest webRequest) {
+        if (notModified(webRequest, brandService.getCatalogStamp())) {
+            return null;
+        }
+        return ResponseEntity.ok(brandService.getActiveBrandPage(chainId, after, limit));
+    }
+
+    /**
+     * GET /api/brands/export
+     * Streams all active brands as newline-delimited JSON, one row at a time.
+     * Optionally filter by chainId. Rows go straight from the result set to the response.
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportBrands(
+            @RequestParam(required = false) Long chainId) {
+        // The body runs after the response is committed, too late for a 404
+        if (chainId != null) {
+            brandService.requireChain(chainId);
+        }
+        StreamingResponseBody body = out -> {
+            try (JsonGenerator gen = objectMapper.getFactory().createGenerator(out)) {
+                gen.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                BrandJsonWriter writer = new BrandJsonWriter();
+                brandService.streamActiveBrands(chainId,
+                        (brandId, brandName, rowChainId, chainName, active, createdAt, updatedAt, version) -> {
+                            try {
+                                writer.write(gen, brandId, brandName, rowChainId, chainName,
+                                        active, createdAt, updatedAt, version);
+                                gen.writeRaw('\n');
+                            } catch (IOException e) {
+                                throw new UncheckedIOException(e);
+                            }
+                        });
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    /**
+     * GET /api/brands/search?q={text}&chainId={id}&limit={n}
+     * Typeahead search over active brand names (prefix and per-word prefix matching),
+     * answered from an in-memory index. Optionally filter by chainId; limit defaults to 10.
+     */
+    @GetMapping("/search")
+    public ResponseEntity<List<BrandSearchResultDTO>> searchBrands(
+            @RequestParam String q,
+            @RequestParam(required = false) Long chainId,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(brandService.searchBrands(q, chainId, limit));
+    }
+
+    /**
+     * GET /api/brands/changes?since={token}&limit={n}
+     * Returns brands created, updated or deleted after the given token, oldest first.
+     * Omit "since" to start from the beginning; pass the returned nextToken to continue.
+     * Delivery is at-least-once, so clients should apply changes idempotently by brandId.
+     */
+    @GetMapping("/changes")
+    public ResponseEntity<BrandChangePageDTO> getChanges(
+            @RequestParam(required = false) String since,
+            @RequestParam(defaultValue = "500") int limit) {
+        return ResponseEntity.ok(brandChangeService.getChangesSince(since, limit));
+    }
+
+    /**
+     * GET /api/brands/changes/stream?since={token}
+     * Server-sent events: replays changes after the token (or the Last-Event-ID header
+     * on reconnect), then pushes new changes as the feed poller picks them up, settle-lag after
+     * commit. Each event id is a resume token; without one, only changes polled after subscribing are sent.
+     */
+    @GetMapping(value = "/changes/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges(
+            @RequestParam(required = false) String since,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        String token = lastEventId != null ? lastEventId : since;
+        // The replay runs on the subscriber's sender, ahead of the live changes queued meanwhile
+        return changeBroadcaster.subscribe(token);
+    }
+
     /**
      * GET /api/brands/{id}
      * Returns a single active brand by ID.
+     * The ETag is derived from the brand's version; a matching If-None-Match yields 304.
      */
     @GetMapping("/{id}")
     public ResponseEntity<BrandDTO> getBrandById(@PathVariable Long id) {
-        return ResponseEntity.ok(brandService.getBrandById(id));
+        BrandDTO brand = brandService.getBrandById(id);
+        return ResponseEntity.ok()
+                .eTag("brand-" + brand.getBrandId() + "-" + brand.getVersion())
+                .body(brand);
+    }
+
+    /**
+     * POST /api/brands/lookup
+     * Resolves many brand IDs (JSON array, up to 5000) in one request: active brands in
+     * request order plus the IDs that are unknown or soft-deleted. A read; nothing is written.
+     */
+    @PostMapping("/lookup")
+    public ResponseEntity<BrandLookupResultDTO> lookupBrands(@RequestBody List<Long> brandIds) {
+        return ResponseEntity.ok(brandService.lookupBrands(brandIds));
     }
 
     /**
@@ -50,6 +181,25 @@ public class BrandController {
         return ResponseEntity.status(HttpStatus.CREATED).body(created);
     }
 
+    /**
+     * POST /api/brands/bulk
+     * Creates many brands in one request from a JSON array.
+     * Returns a result per row; invalid and duplicate rows are reported, not thrown.
+     */
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<BrandBulkResultDTO> createBrandsBulk(@RequestBody List<BrandRequestDTO> requests) {
+        return ResponseEntity.ok(brandService.createBrands(requests));
+    }
+
+    /**
+     * POST /api/brands/bulk (text/csv)
+     * Same as the JSON variant; each line is "brandName,chainId" with an optional header line.
+     */
+    @PostMapping(value = "/bulk", consumes = "text/csv")
+    public ResponseEntity<BrandBulkResultDTO> createBrandsBulkCsv(@RequestBody String csv) {
+        return ResponseEntity.ok(brandService.createBrands(parseCsv(csv)));
+    }
+
     /**
      * PUT /api/brands/{id}
      * Updates an existing brand.
@@ -71,4 +221,49 @@ public class BrandController {
         brandService.deleteBrand(id);
         return ResponseEntity.noContent().build();
     }
+
+    /**
+     * POST /api/brands/bulk-delete
+     * Soft-deletes many brands by ID in one request.
+     * Brands linked to an active Zone are skipped and reported, as are unknown IDs.
+     */
+    @PostMapping("/bulk-delete")
+    public ResponseEntity<BrandBulkDeleteResultDTO> deleteBrandsBulk(@RequestBody List<Long> brandIds) {
+        return ResponseEntity.ok(brandService.deleteBrands(brandIds));
+    }
+
+    /* ─── Helper ─────────────────────────────────────────────────────── */
+    private boolean notModified(WebRequest webRequest, CatalogStampDTO stamp) {
+        // Also sets the ETag and Last-Modified headers on the response
+        return webRequest.checkNotModified(stamp.getEtag(), stamp.getLastModified().toEpochMilli());
+    }
+
+    private List<BrandRequestDTO> parseCsv(String csv) {
+        List<BrandRequestDTO> rows = new ArrayList<>();
+        for (String line : csv.split("\\R")) {
+            if (line.isBlank()) continue;
+            int comma = line.lastIndexOf(',');
+            String name = unquote(comma < 0 ? line : line.substring(0, comma));
+            String chain = comma < 0 ? "" : line.substring(comma + 1).trim();
+            if (rows.isEmpty() && "brandName".equalsIgnoreCase(name) && "chainId".equalsIgnoreCase(chain)) {
+                continue;
+            }
+            Long chainId;
+            try {
+                chainId = chain.isEmpty() ? null : Long.valueOf(chain);
+            } catch (NumberFormatException e) {
+                chainId = null;
+            }
+            rows.add(BrandRequestDTO.builder().brandName(name).chainId(chainId).build());
+        }
+        return rows;
+    }
+
+    private String unquote(String value) {
+        String v = value.trim();
+        if (v.length() >= 2 && v.startsWith("\"") && v.endsWith("\"")) {
+            v = v.substring(1, v.length() - 1).replace("\"\"", "\"");
+        }
+        return v;
+    }
 }
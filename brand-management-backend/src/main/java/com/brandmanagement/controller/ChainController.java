@@ -1,12 +1,15 @@
 package com.brandmanagement.controller;
 
+import com.brandmanagement.dto.CatalogStampDTO;
 import com.brandmanagement.dto.ChainDTO;
+import com.brandmanagement.dto.ChainSummaryDTO;
 import com.brandmanagement.service.ChainService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -20,9 +23,24 @@ public class ChainController {
     /**
      * GET /api/chains
      * Returns all active chains (companies) for dropdown population.
+     * Supports If-None-Match / If-Modified-Since; 304 skips loading the chains.
      */
     @GetMapping
-    public ResponseEntity<List<ChainDTO>> getAllChains() {
+    public ResponseEntity<List<ChainDTO>> getAllChains(WebRequest webRequest) {
+        CatalogStampDTO stamp = chainService.getCatalogStamp();
+        if (webRequest.checkNotModified(stamp.getEtag(), stamp.getLastModified().toEpochMilli())) {
+            return null;
+        }
         return ResponseEntity.ok(chainService.getAllActiveChains());
     }
+
+    /**
+     * GET /api/chains/summary
+     * Returns every active chain with its active/inactive brand counts, active zone count
+     * and last modification time, computed by a single aggregate query.
+     */
+    @GetMapping("/summary")
+    public ResponseEntity<List<ChainSummaryDTO>> getChainSummaries() {
+        return ResponseEntity.ok(chainService.getChainSummaries());
+    }
 }
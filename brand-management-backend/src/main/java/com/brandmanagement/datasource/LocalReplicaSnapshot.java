@@ -0,0 +1,55 @@
+package com.brandmanagement.datasource;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * "replica-local" profile only: copies the embedded H2 primary into each embedded replica
+ * once at startup. The replicas are never refreshed, so they behave like replicas that lag
+ * every later write, which makes routing and read-your-writes observable without MySQL.
+ */
+@Slf4j
+@Component
+@Profile("replica-local")
+@RequiredArgsConstructor
+public class LocalReplicaSnapshot {
+
+    private final DataSource dataSource;
+    private final ReplicaRoutingDataSource replicaDataSource;
+
+    @EventListener(ContextRefreshedEvent.class)
+    public void copyPrimaryToReplicas() throws SQLException {
+        List<String> script = new ArrayList<>();
+        try (Connection con = dataSource.getConnection();
+             Statement stmt = con.createStatement();
+             ResultSet rs = stmt.executeQuery("SCRIPT DROP")) {
+            while (rs.next()) {
+                script.add(rs.getString(1));
+            }
+        }
+        for (DataSource replica : replicaDataSource.getReplicas()) {
+            try (Connection con = replica.getConnection();
+                 Statement stmt = con.createStatement()) {
+                // Pool connections are read-only; the snapshot load is the one write
+                con.setReadOnly(false);
+                for (String sql : script) {
+                    stmt.execute(sql);
+                }
+            }
+        }
+        log.info("Copied primary snapshot ({} statements) to {} local replica(s)",
+                script.size(), replicaDataSource.getReplicas().size());
+    }
+}
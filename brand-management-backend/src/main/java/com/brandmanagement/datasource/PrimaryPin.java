@@ -0,0 +1,33 @@
+package com.brandmanagement.datasource;
+
+/**
+ * Per-thread flag that routes read-only transactions to the primary instead of a replica.
+ * Set for a client's requests shortly after it wrote (read-your-writes) and around
+ * {@link PrimaryRead} methods.
+ */
+public final class PrimaryPin {
+
+    private static final ThreadLocal<Boolean> PINNED = new ThreadLocal<>();
+
+    private PrimaryPin() {
+    }
+
+    public static boolean isPinned() {
+        return Boolean.TRUE.equals(PINNED.get());
+    }
+
+    /** Pins the current thread and returns the previous state, for {@link #restore}. */
+    public static boolean pin() {
+        boolean previous = isPinned();
+        PINNED.set(Boolean.TRUE);
+        return previous;
+    }
+
+    public static void restore(boolean previous) {
+        if (previous) {
+            PINNED.set(Boolean.TRUE);
+        } else {
+            PINNED.remove();
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.brandmanagement.datasource;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a read that must not be served by a lagging replica, typically because its
+ * result is cached or indexed and would otherwise stay stale well past replication lag.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface PrimaryRead {
+}
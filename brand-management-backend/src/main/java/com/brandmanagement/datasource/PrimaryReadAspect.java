@@ -0,0 +1,22 @@
+package com.brandmanagement.datasource;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+/** Pins the calling thread to the primary for the duration of a {@link PrimaryRead} method. */
+@Aspect
+@Component
+public class PrimaryReadAspect {
+
+    @Around("@annotation(com.brandmanagement.datasource.PrimaryRead)")
+    public Object onPrimary(ProceedingJoinPoint pjp) throws Throwable {
+        boolean previous = PrimaryPin.pin();
+        try {
+            return pjp.proceed();
+        } finally {
+            PrimaryPin.restore(previous);
+        }
+    }
+}
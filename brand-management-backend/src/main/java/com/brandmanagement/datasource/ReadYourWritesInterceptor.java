@@ -0,0 +1,78 @@
+package com.brandmanagement.datasource;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.time.Duration;
+
+/**
+ * Read-your-writes across requests: a write request sets a short-lived cookie, and
+ * while the client sends it back its reads are pinned to the primary, so replication
+ * lag never hides the client's own changes from it.
+ *
+ * The pin lives on the request thread. Async handlers (exports, change streams) release
+ * that thread without afterCompletion, so the pin is also undone when async handling starts.
+ */
+@RequiredArgsConstructor
+public class ReadYourWritesInterceptor implements AsyncHandlerInterceptor {
+
+    public static final String COOKIE = "brand-read-primary";
+
+    private static final String PREVIOUS_PIN = ReadYourWritesInterceptor.class.getName() + ".previous";
+
+    private final Duration window;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (isWrite(request)) {
+            // Set before the handler runs; @ResponseBody commits the response before postHandle
+            Cookie cookie = new Cookie(COOKIE, "1");
+            cookie.setPath("/");
+            cookie.setHttpOnly(true);
+            cookie.setMaxAge((int) window.toSeconds());
+            response.addCookie(cookie);
+        } else if (hasCookie(request)) {
+            request.setAttribute(PREVIOUS_PIN, PrimaryPin.pin());
+        }
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+                                               Object handler) {
+        // The async dispatch runs preHandle again and is released by afterCompletion
+        unpin(request);
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response,
+                                Object handler, Exception ex) {
+        unpin(request);
+    }
+
+    private void unpin(HttpServletRequest request) {
+        Object previous = request.getAttribute(PREVIOUS_PIN);
+        if (previous != null) {
+            request.removeAttribute(PREVIOUS_PIN);
+            PrimaryPin.restore((Boolean) previous);
+        }
+    }
+
+    private boolean isWrite(HttpServletRequest request) {
+        HttpMethod method = HttpMethod.valueOf(request.getMethod());
+        return method != HttpMethod.GET && method != HttpMethod.HEAD && method != HttpMethod.OPTIONS;
+    }
+
+    private boolean hasCookie(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) return false;
+        for (Cookie cookie : cookies) {
+            if (COOKIE.equals(cookie.getName())) return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,92 @@
+package com.brandmanagement.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hands out read-only connections: round-robin over the replicas, skipping any that
+ * recently failed to connect, and falling back to the primary when none is usable
+ * or when the current thread is pinned to the primary (see {@link PrimaryPin}).
+ *
+ * A replica whose getConnection() fails is marked down for retryAfter; the first
+ * request after that tries it again.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final long retryAfterNanos;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas, Duration retryAfter) {
+        this.primary = primary;
+        this.replicas = replicas.stream().map(Replica::new).toList();
+        this.retryAfterNanos = retryAfter.toNanos();
+    }
+
+    public List<DataSource> getReplicas() {
+        return replicas.stream().map(r -> r.dataSource).toList();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (PrimaryPin.isPinned() || replicas.isEmpty()) {
+            return primary.getConnection();
+        }
+        int start = Math.floorMod(next.getAndIncrement(), replicas.size());
+        long now = System.nanoTime();
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = replicas.get((start + i) % replicas.size());
+            if (replica.down && now - replica.downSince < retryAfterNanos) {
+                continue;
+            }
+            try {
+                Connection con = replica.dataSource.getConnection();
+                replica.down = false;
+                return con;
+            } catch (SQLException | RuntimeException e) {
+                // RuntimeException: Hikari reports a pool that cannot start as PoolInitializationException
+                log.warn("Read replica unavailable, marking down for {} ms: {}",
+                        retryAfterNanos / 1_000_000, e.getMessage());
+                replica.downSince = System.nanoTime();
+                replica.down = true;
+            }
+        }
+        return primary.getConnection();
+    }
+
+    /** Explicit credentials are not the replica pools' own, so these connections go to the primary. */
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return primary.getConnection(username, password);
+    }
+
+    /** Closes the replica pools; the primary is a bean of its own. */
+    @Override
+    public void close() throws Exception {
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    private static final class Replica {
+        private final DataSource dataSource;
+        private volatile boolean down;
+        // System.nanoTime() of the last connect failure
+        private volatile long downSince;
+
+        private Replica(DataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+    }
+}
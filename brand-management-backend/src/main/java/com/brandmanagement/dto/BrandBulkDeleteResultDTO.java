@@ -0,0 +1,21 @@
+package com.brandmanagement.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * Response DTO for a batch soft delete: which brand IDs were deactivated,
+ * which were kept because an active Zone references them, and which were not found.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BrandBulkDeleteResultDTO {
+
+    private List<Long> deleted;
+    private List<Long> linkedToZone;
+    private List<Long> notFound;
+}
@@ -0,0 +1,21 @@
+package com.brandmanagement.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * Response DTO for a bulk brand import: totals plus one result per submitted row.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BrandBulkResultDTO {
+
+    private int total;
+    private int created;
+    private int failed;
+    private List<BrandBulkRowResultDTO> rows;
+}
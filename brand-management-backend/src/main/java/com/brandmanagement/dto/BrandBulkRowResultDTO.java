@@ -0,0 +1,24 @@
+package com.brandmanagement.dto;
+
+import lombok.*;
+
+/**
+ * Outcome of a single row in a bulk brand import.
+ * row is the 1-based position of the row in the request.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BrandBulkRowResultDTO {
+
+    public enum Status { CREATED, DUPLICATE, INVALID, CHAIN_NOT_FOUND }
+
+    private int row;
+    private String brandName;
+    private Long chainId;
+    private Long brandId;
+    private Status status;
+    private String message;
+}
@@ -0,0 +1,21 @@
+package com.brandmanagement.dto;
+
+import lombok.*;
+
+/**
+ * One entry in the brand change feed.
+ * token resumes the feed right after this change.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BrandChangeDTO {
+
+    public enum Type { CREATED, UPDATED, DELETED }
+
+    private Type type;
+    private String token;
+    private BrandDTO brand;
+}
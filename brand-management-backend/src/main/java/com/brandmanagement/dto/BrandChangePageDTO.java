@@ -0,0 +1,21 @@
+package com.brandmanagement.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * Response DTO for the brand change feed.
+ * nextToken is always set; pass it as "since" to continue, even when no changes were returned.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BrandChangePageDTO {
+
+    private List<BrandChangeDTO> changes;
+    private String nextToken;
+    private boolean hasMore;
+}
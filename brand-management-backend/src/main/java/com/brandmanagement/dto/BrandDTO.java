@@ -21,4 +21,5 @@ public class BrandDTO {
     private Boolean isActive;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Long version;
 }
@@ -0,0 +1,20 @@
+package com.brandmanagement.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * Response DTO for a batch lookup by ID: the active brands found, in request order,
+ * and the requested IDs that are unknown or soft-deleted.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BrandLookupResultDTO {
+
+    private List<BrandDTO> found;
+    private List<Long> missing;
+}
@@ -0,0 +1,20 @@
+package com.brandmanagement.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * Response DTO for one keyset page of brands.
+ * nextCursor is the brand ID to pass as "after" for the next page, or null on the last page.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BrandPageDTO {
+
+    private List<BrandDTO> items;
+    private Long nextCursor;
+}
@@ -23,4 +23,7 @@ public class BrandRequestDTO {
     private Long chainId;
 
     private Boolean isActive;
+
+    // Optional on update: the version the client last read; a mismatch is rejected with 409
+    private Long version;
 }
@@ -0,0 +1,19 @@
+package com.brandmanagement.dto;
+
+import lombok.*;
+
+/**
+ * Lightweight brand row returned by the typeahead search.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BrandSearchResultDTO {
+
+    private Long brandId;
+    private String brandName;
+    private Long chainId;
+    private String chainName;
+}
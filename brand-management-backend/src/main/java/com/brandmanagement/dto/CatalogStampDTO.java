@@ -0,0 +1,19 @@
+package com.brandmanagement.dto;
+
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * Cheap fingerprint of a catalog listing, used for ETag / Last-Modified validation.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CatalogStampDTO {
+
+    private String etag;
+    private Instant lastModified;
+}
@@ -0,0 +1,33 @@
+package com.brandmanagement.dto;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Response DTO for the chain summary: brand and zone counts per active chain.
+ * lastModified is the later of the chain's and its brands' updated_at.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ChainSummaryDTO {
+
+    private Long chainId;
+    private String chainName;
+    private Long activeBrands;
+    private Long inactiveBrands;
+    private Long activeZones;
+    private LocalDateTime lastModified;
+
+    // Used by the JPQL constructor expression in ChainRepository.findChainSummaries
+    public ChainSummaryDTO(Long chainId, String chainName, Long activeBrands, Long inactiveBrands,
+                           Long activeZones, LocalDateTime chainUpdatedAt, LocalDateTime brandsUpdatedAt) {
+        this(chainId, chainName, activeBrands, inactiveBrands, activeZones,
+                brandsUpdatedAt != null && (chainUpdatedAt == null || brandsUpdatedAt.isAfter(chainUpdatedAt))
+                        ? brandsUpdatedAt
+                        : chainUpdatedAt);
+    }
+}
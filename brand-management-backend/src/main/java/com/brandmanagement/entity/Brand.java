@@ -2,23 +2,29 @@ package com.brandmanagement.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 
 /**
  * Represents a Brand.
  * Each Brand belongs to exactly one Chain (Company).
  * A Brand may be linked to multiple Zones (future dependency).
+ * Active brand names are unique per Chain, ignoring case and surrounding whitespace;
+ * this is enforced by the index on (brand_name_normalized, chain_id, active_key).
  */
 @Entity
 @Table(
     name = "brand",
     uniqueConstraints = @UniqueConstraint(
-        name = "uq_brand_name_chain",
-        columnNames = {"brand_name", "chain_id"}
-    )
+        name = Brand.UNIQUE_NAME_CONSTRAINT,
+        columnNames = {"brand_name_normalized", "chain_id", "active_key"}
+    ),
+    indexes = @Index(name = "idx_brand_updated_at_id", columnList = "updated_at, brand_id")
 )
 @Getter
 @Setter
@@ -27,6 +33,8 @@ import java.util.List;
 @Builder
 public class Brand {
 
+    public static final String UNIQUE_NAME_CONSTRAINT = "uq_brand_norm_name_chain_active";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "brand_id")
@@ -35,14 +43,30 @@ public class Brand {
     @Column(name = "brand_name", nullable = false, length = 50)
     private String brandName;
 
+    // Lower-cased, trimmed brand_name; maintained by the lifecycle callbacks below
+    @Column(name = "brand_name_normalized", nullable = false, length = 50)
+    private String normalizedName;
+
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "chain_id", nullable = false, foreignKey = @ForeignKey(name = "fk_brand_chain"))
+    // No foreign key: brand is partitioned by chain_id, and MySQL partitions cannot have one
+    @JoinColumn(name = "chain_id", nullable = false, foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private Chain chain;
 
     @Builder.Default
     @Column(name = "is_active", nullable = false)
     private Boolean isActive = true;
 
+    // 1 when active, NULL otherwise, so inactive rows never collide in the unique index
+    @Column(name = "active_key", insertable = false, updatable = false,
+            columnDefinition = "TINYINT GENERATED ALWAYS AS (CASE WHEN is_active THEN 1 END)")
+    @JdbcTypeCode(SqlTypes.TINYINT)
+    private Integer activeKey;
+
+    @Version
+    @Builder.Default
+    @Column(name = "version", nullable = false)
+    private Long version = 0L;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
@@ -55,12 +79,20 @@ public class Brand {
 
     @PrePersist
     protected void onCreate() {
-        this.createdAt = LocalDateTime.now();
-        this.updatedAt = LocalDateTime.now();
+        // Same instant for both, so the change feed can tell creations from updates
+        LocalDateTime now = LocalDateTime.now();
+        this.normalizedName = normalizeName(this.brandName);
+        this.createdAt = now;
+        this.updatedAt = now;
     }
 
     @PreUpdate
     protected void onUpdate() {
+        this.normalizedName = normalizeName(this.brandName);
         this.updatedAt = LocalDateTime.now();
     }
+
+    public static String normalizeName(String brandName) {
+        return brandName == null ? null : brandName.trim().toLowerCase(Locale.ROOT);
+    }
 }
@@ -0,0 +1,55 @@
+package com.brandmanagement.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+
+/**
+ * One entry of the brand audit history: a delivered outbox event, keyed by its event ID.
+ * Written by the audit sink; never updated.
+ */
+@Entity
+@Table(
+    name = "brand_audit",
+    indexes = @Index(name = "idx_brand_audit_brand_event", columnList = "brand_id, event_id")
+)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BrandAuditEntry {
+
+    @Id
+    @Column(name = "event_id")
+    private Long eventId;
+
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(name = "event_type", nullable = false, length = 10)
+    private BrandOutboxEvent.Type eventType;
+
+    @Column(name = "brand_id", nullable = false)
+    private Long brandId;
+
+    @Column(name = "chain_id")
+    private Long chainId;
+
+    @Column(name = "brand_name", length = 50)
+    private String brandName;
+
+    @Column(name = "is_active", nullable = false)
+    private Boolean isActive;
+
+    @Column(name = "brand_version")
+    private Long brandVersion;
+
+    @Column(name = "occurred_at", nullable = false)
+    private LocalDateTime occurredAt;
+
+    @Column(name = "recorded_at", nullable = false)
+    private LocalDateTime recordedAt;
+}
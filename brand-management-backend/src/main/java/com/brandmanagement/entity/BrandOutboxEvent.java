@@ -0,0 +1,55 @@
+package com.brandmanagement.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+
+/**
+ * A brand change waiting to be delivered to the event sinks (transactional outbox).
+ * Appended in the transaction of the brand write and deleted once every sink accepted it.
+ * Carries the written brand's state, so sinks never read the brand table.
+ */
+@Entity
+@Table(name = "brand_outbox")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BrandOutboxEvent {
+
+    public enum Type { CREATED, UPDATED, DELETED }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "event_id")
+    private Long eventId;
+
+    // VARCHAR, not a native ENUM column, so adding a type needs no schema change
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(name = "event_type", nullable = false, length = 10)
+    private Type eventType;
+
+    @Column(name = "brand_id", nullable = false)
+    private Long brandId;
+
+    @Column(name = "chain_id")
+    private Long chainId;
+
+    // Null for deletions, which only carry the brand and chain IDs
+    @Column(name = "brand_name", length = 50)
+    private String brandName;
+
+    @Column(name = "is_active", nullable = false)
+    private Boolean isActive;
+
+    @Column(name = "brand_version")
+    private Long brandVersion;
+
+    @Column(name = "occurred_at", nullable = false)
+    private LocalDateTime occurredAt;
+}
@@ -0,0 +1,32 @@
+package com.brandmanagement.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * A monotonically increasing version per catalog, bumped by every write to that catalog.
+ * Conditional GETs compare against it without loading or counting the catalog rows.
+ */
+@Entity
+@Table(name = "catalog_version")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CatalogVersion {
+
+    public static final String BRANDS = "brands";
+
+    @Id
+    @Column(name = "catalog_name", length = 30)
+    private String catalogName;
+
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -11,7 +11,10 @@ import java.time.LocalDateTime;
  * Used to enforce the soft-delete constraint on Brand.
  */
 @Entity
-@Table(name = "zone")
+@Table(
+    name = "zone",
+    indexes = @Index(name = "idx_zone_brand_active", columnList = "brand_id, is_active")
+)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -28,7 +31,8 @@ public class Zone {
     private String zoneName;
 
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "brand_id", nullable = false, foreignKey = @ForeignKey(name = "fk_zone_brand"))
+    // No foreign key: brand is partitioned, and MySQL partitioned tables cannot be referenced
+    @JoinColumn(name = "brand_id", nullable = false, foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private Brand brand;
 
     @Builder.Default
@@ -0,0 +1,13 @@
+package com.brandmanagement.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.CONFLICT)
+public class CrossShardMoveException extends RuntimeException {
+
+    public CrossShardMoveException(Long brandId, Long chainId) {
+        super("Brand " + brandId + " cannot move to company " + chainId
+                + " because that company is stored on another shard. Create the brand there instead.");
+    }
+}
@@ -1,5 +1,7 @@
 package com.brandmanagement.exception;
 
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.*;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -39,6 +41,44 @@ public class GlobalExceptionHandler {
         return buildError(HttpStatus.CONFLICT, ex.getMessage(), null);
     }
 
+    /* ─── Brand moved to a chain on another shard ───────────────────── */
+    @ExceptionHandler(CrossShardMoveException.class)
+    public ResponseEntity<Map<String, Object>> handleCrossShardMove(CrossShardMoveException ex) {
+        return buildError(HttpStatus.CONFLICT, ex.getMessage(), null);
+    }
+
+    /* ─── Stale version (optimistic locking) ────────────────────────── */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<Map<String, Object>> handleOptimisticLock(OptimisticLockingFailureException ex) {
+        return buildError(HttpStatus.CONFLICT, "The brand was modified by another request; reload and try again", null);
+    }
+
+    /* ─── Constraint violation (e.g. concurrent duplicate insert) ───── */
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<Map<String, Object>> handleDataIntegrity(DataIntegrityViolationException ex) {
+        return buildError(HttpStatus.CONFLICT, "The request conflicts with existing data", null);
+    }
+
+    /* ─── Malformed change-feed token ───────────────────────────────── */
+    @ExceptionHandler(InvalidChangeTokenException.class)
+    public ResponseEntity<Map<String, Object>> handleInvalidChangeToken(InvalidChangeTokenException ex) {
+        return buildError(HttpStatus.BAD_REQUEST, ex.getMessage(), null);
+    }
+
+    /* ─── Batch lookup over the ID limit ────────────────────────────── */
+    @ExceptionHandler(LookupTooLargeException.class)
+    public ResponseEntity<Map<String, Object>> handleLookupTooLarge(LookupTooLargeException ex) {
+        return buildError(HttpStatus.BAD_REQUEST, ex.getMessage(), null);
+    }
+
+    /* ─── Write rate limit exceeded ─────────────────────────────────── */
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<Map<String, Object>> handleRateLimit(RateLimitExceededException ex) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(buildError(HttpStatus.TOO_MANY_REQUESTS, ex.getMessage(), null).getBody());
+    }
+
     /* ─── Generic ───────────────────────────────────────────────────── */
     @ExceptionHandler(Exception.class)
     public ResponseEntity<Map<String, Object>> handleGeneral(Exception ex) {
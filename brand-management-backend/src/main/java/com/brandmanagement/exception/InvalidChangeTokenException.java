@@ -0,0 +1,12 @@
+package com.brandmanagement.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidChangeTokenException extends RuntimeException {
+
+    public InvalidChangeTokenException(String token) {
+        super("Invalid change feed token: '" + token + "'");
+    }
+}
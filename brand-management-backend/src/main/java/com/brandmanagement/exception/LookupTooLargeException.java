@@ -0,0 +1,12 @@
+package com.brandmanagement.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class LookupTooLargeException extends RuntimeException {
+
+    public LookupTooLargeException(int requested, int max) {
+        super("Too many brand IDs in one lookup: " + requested + " (maximum " + max + ")");
+    }
+}
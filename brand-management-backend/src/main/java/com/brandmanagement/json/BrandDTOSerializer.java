@@ -0,0 +1,32 @@
+package com.brandmanagement.json;
+
+import com.brandmanagement.dto.BrandDTO;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import org.springframework.boot.jackson.JsonComponent;
+
+import java.io.IOException;
+
+/**
+ * Serializes every BrandDTO response (lists, pages, single brands, change feed entries)
+ * through BrandJsonWriter instead of reflective bean serialization.
+ * Output matches the bean serializer under Spring Boot's Jackson defaults; spring.jackson.*
+ * date or inclusion settings are not applied to BrandDTO.
+ */
+@JsonComponent
+public class BrandDTOSerializer extends JsonSerializer<BrandDTO> {
+
+    // One writer per thread keeps its timestamp cache warm across the rows of a list
+    private static final ThreadLocal<BrandJsonWriter> WRITER = ThreadLocal.withInitial(BrandJsonWriter::new);
+
+    @Override
+    public void serialize(BrandDTO brand, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+        WRITER.get().write(gen, brand);
+    }
+
+    @Override
+    public Class<BrandDTO> handledType() {
+        return BrandDTO.class;
+    }
+}
@@ -0,0 +1,160 @@
+package com.brandmanagement.json;
+
+import com.brandmanagement.dto.BrandDTO;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Writes brand objects field by field, producing exactly what Jackson's bean serializer
+ * writes for BrandDTO (same field order, nulls included, ISO-8601 timestamps) without
+ * reflection or per-row garbage:
+ *   - field names are pre-encoded SerializedStrings
+ *   - timestamps are formatted into reusable char buffers, and a value equal to the
+ *     previous row's is not formatted again
+ *
+ * Not thread-safe: use one instance per response (or per thread).
+ */
+public final class BrandJsonWriter {
+
+    private static final SerializedString BRAND_ID = new SerializedString("brandId");
+    private static final SerializedString BRAND_NAME = new SerializedString("brandName");
+    private static final SerializedString CHAIN_ID = new SerializedString("chainId");
+    private static final SerializedString CHAIN_NAME = new SerializedString("chainName");
+    private static final SerializedString IS_ACTIVE = new SerializedString("isActive");
+    private static final SerializedString CREATED_AT = new SerializedString("createdAt");
+    private static final SerializedString UPDATED_AT = new SerializedString("updatedAt");
+    private static final SerializedString VERSION = new SerializedString("version");
+
+    private final TimestampField createdAt = new TimestampField();
+    private final TimestampField updatedAt = new TimestampField();
+
+    /** Writes one brand from raw column values; no BrandDTO is needed. */
+    public void write(JsonGenerator gen, long brandId, String brandName, long chainId, String chainName,
+                      boolean active, LocalDateTime created, LocalDateTime updated, long version) throws IOException {
+        gen.writeStartObject();
+        gen.writeFieldName(BRAND_ID);
+        gen.writeNumber(brandId);
+        gen.writeFieldName(BRAND_NAME);
+        gen.writeString(brandName);
+        gen.writeFieldName(CHAIN_ID);
+        gen.writeNumber(chainId);
+        gen.writeFieldName(CHAIN_NAME);
+        gen.writeString(chainName);
+        gen.writeFieldName(IS_ACTIVE);
+        gen.writeBoolean(active);
+        gen.writeFieldName(CREATED_AT);
+        createdAt.write(gen, created);
+        gen.writeFieldName(UPDATED_AT);
+        updatedAt.write(gen, updated);
+        gen.writeFieldName(VERSION);
+        gen.writeNumber(version);
+        gen.writeEndObject();
+    }
+
+    public void write(JsonGenerator gen, BrandDTO brand) throws IOException {
+        gen.writeStartObject();
+        gen.writeFieldName(BRAND_ID);
+        writeNumber(gen, brand.getBrandId());
+        gen.writeFieldName(BRAND_NAME);
+        gen.writeString(brand.getBrandName());
+        gen.writeFieldName(CHAIN_ID);
+        writeNumber(gen, brand.getChainId());
+        gen.writeFieldName(CHAIN_NAME);
+        gen.writeString(brand.getChainName());
+        gen.writeFieldName(IS_ACTIVE);
+        if (brand.getIsActive() != null) {
+            gen.writeBoolean(brand.getIsActive());
+        } else {
+            gen.writeNull();
+        }
+        gen.writeFieldName(CREATED_AT);
+        createdAt.write(gen, brand.getCreatedAt());
+        gen.writeFieldName(UPDATED_AT);
+        updatedAt.write(gen, brand.getUpdatedAt());
+        gen.writeFieldName(VERSION);
+        writeNumber(gen, brand.getVersion());
+        gen.writeEndObject();
+    }
+
+    private static void writeNumber(JsonGenerator gen, Long value) throws IOException {
+        if (value != null) {
+            gen.writeNumber(value);
+        } else {
+            gen.writeNull();
+        }
+    }
+
+    /* ─── Timestamps ────────────────────────────────────────────────── */
+    private static final class TimestampField {
+
+        // yyyy-MM-ddTHH:mm:ss.nnnnnnnnn
+        private final char[] text = new char[29];
+        private LocalDateTime last;
+        private int length;
+
+        void write(JsonGenerator gen, LocalDateTime value) throws IOException {
+            if (value == null) {
+                gen.writeNull();
+                return;
+            }
+            if (!value.equals(last)) {
+                length = format(value, text);
+                last = value;
+            }
+            if (length < 0) {
+                gen.writeString(value.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+            } else {
+                gen.writeString(text, 0, length);
+            }
+        }
+
+        /**
+         * Same output as DateTimeFormatter.ISO_LOCAL_DATE_TIME: seconds always present, the
+         * fraction only when non-zero and without trailing zeros. Returns -1 for years
+         * outside 0..9999, which the caller hands to the JDK formatter.
+         */
+        private static int format(LocalDateTime t, char[] buf) {
+            int year = t.getYear();
+            if (year < 0 || year > 9999) {
+                return -1;
+            }
+            put2(buf, 0, year / 100);
+            put2(buf, 2, year % 100);
+            buf[4] = '-';
+            put2(buf, 5, t.getMonthValue());
+            buf[7] = '-';
+            put2(buf, 8, t.getDayOfMonth());
+            buf[10] = 'T';
+            put2(buf, 11, t.getHour());
+            buf[13] = ':';
+            put2(buf, 14, t.getMinute());
+            buf[16] = ':';
+            put2(buf, 17, t.getSecond());
+
+            int nano = t.getNano();
+            if (nano == 0) {
+                return 19;
+            }
+            int digits = 9;
+            while (nano % 10 == 0) {
+                nano /= 10;
+                digits--;
+            }
+            buf[19] = '.';
+            for (int i = 19 + digits; i > 19; i--) {
+                buf[i] = (char) ('0' + nano % 10);
+                nano /= 10;
+            }
+            return 20 + digits;
+        }
+
+        private static void put2(char[] buf, int at, int value) {
+            buf[at] = (char) ('0' + value / 10);
+            buf[at + 1] = (char) ('0' + value % 10);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.brandmanagement.metrics;
+
+/**
+ * The service method ("BrandServiceImpl.getBrandsByChain") running on the current thread,
+ * set by OperationMetricsAspect so SQL logging can say which call issued a statement.
+ */
+public final class CurrentOperation {
+
+    private static final ThreadLocal<String> OPERATION = new ThreadLocal<>();
+
+    private CurrentOperation() {
+    }
+
+    public static String get() {
+        return OPERATION.get();
+    }
+
+    /** Sets the operation and returns the previous one, for {@link #restore}. */
+    static String enter(String operation) {
+        String previous = OPERATION.get();
+        OPERATION.set(operation);
+        return previous;
+    }
+
+    static void restore(String previous) {
+        if (previous != null) {
+            OPERATION.set(previous);
+        } else {
+            OPERATION.remove();
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.brandmanagement.metrics;
+
+import com.brandmanagement.dto.BrandChangePageDTO;
+import com.brandmanagement.dto.BrandDTO;
+import com.brandmanagement.dto.BrandLookupResultDTO;
+import com.brandmanagement.dto.BrandPageDTO;
+import com.brandmanagement.dto.ChainDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Times every service and repository call, tagged by operation and outcome,
+ * and counts the rows service reads hand back to controllers.
+ *
+ * Meters:
+ *   brand.service.calls     timer   (layer=service, class, operation, outcome)
+ *   brand.repository.calls  timer   (layer=repository, class, operation, outcome)
+ *   brand.service.rows      counter (class, operation)
+ *
+ * Also exposes the running service method through CurrentOperation.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class OperationMetricsAspect {
+
+    private final MeterRegistry registry;
+
+    @Around("within(com.brandmanagement.service.impl..*) && execution(public * *(..))")
+    public Object timeService(ProceedingJoinPoint pjp) throws Throwable {
+        String previous = CurrentOperation.enter(className(pjp) + "." + pjp.getSignature().getName());
+        Object result;
+        try {
+            result = time("brand.service.calls", "service", pjp);
+        } finally {
+            CurrentOperation.restore(previous);
+        }
+        long rows = rowCount(result);
+        if (rows > 0) {
+            Counter.builder("brand.service.rows")
+                    .description("Rows returned by brand/chain service reads")
+                    .tag("class", className(pjp))
+                    .tag("operation", pjp.getSignature().getName())
+                    .register(registry)
+                    .increment(rows);
+        }
+        return result;
+    }
+
+    @Around("execution(public * org.springframework.data.repository.Repository+.*(..))")
+    public Object timeRepository(ProceedingJoinPoint pjp) throws Throwable {
+        return time("brand.repository.calls", "repository", pjp);
+    }
+
+    private Object time(String name, String layer, ProceedingJoinPoint pjp) throws Throwable {
+        Timer.Sample sample = Timer.start(registry);
+        String outcome = Outcome.SUCCESS;
+        try {
+            return pjp.proceed();
+        } catch (Throwable ex) {
+            outcome = Outcome.of(ex);
+            throw ex;
+        } finally {
+            sample.stop(Timer.builder(name)
+                    .tag("layer", layer)
+                    .tag("class", className(pjp))
+                    .tag("operation", pjp.getSignature().getName())
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(registry));
+        }
+    }
+
+    private static String className(ProceedingJoinPoint pjp) {
+        return pjp.getSignature().getDeclaringType().getSimpleName();
+    }
+
+    // Read results only: lists, the rows inside page/lookup/change wrappers, single DTOs.
+    // Write summaries (bulk results), stamps and the like are not rows.
+    private static long rowCount(Object result) {
+        return switch (result) {
+            case Collection<?> c -> c.size();
+            case BrandPageDTO page -> size(page.getItems());
+            case BrandLookupResultDTO lookup -> size(lookup.getFound());
+            case BrandChangePageDTO changes -> size(changes.getChanges());
+            case BrandDTO brand -> 1;
+            case ChainDTO chain -> 1;
+            case Optional<?> o -> o.isPresent() ? 1 : 0;
+            case null, default -> 0;
+        };
+    }
+
+    private static long size(Collection<?> rows) {
+        return rows == null ? 0 : rows.size();
+    }
+}
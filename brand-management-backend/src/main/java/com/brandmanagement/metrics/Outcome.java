@@ -0,0 +1,34 @@
+package com.brandmanagement.metrics;
+
+import com.brandmanagement.exception.BrandLinkedToZoneException;
+import com.brandmanagement.exception.CrossShardMoveException;
+import com.brandmanagement.exception.DuplicateBrandException;
+import com.brandmanagement.exception.InvalidChangeTokenException;
+import com.brandmanagement.exception.LookupTooLargeException;
+import com.brandmanagement.exception.ResourceNotFoundException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+/**
+ * Outcome tag values for operation metrics.
+ * Mirrors the exception-to-status mapping in GlobalExceptionHandler.
+ */
+public final class Outcome {
+
+    public static final String SUCCESS = "success";
+
+    private Outcome() {
+    }
+
+    public static String of(Throwable ex) {
+        if (ex instanceof ResourceNotFoundException) return "not_found";
+        if (ex instanceof DuplicateBrandException) return "duplicate";
+        if (ex instanceof BrandLinkedToZoneException) return "linked_to_zone";
+        if (ex instanceof CrossShardMoveException) return "cross_shard_move";
+        if (ex instanceof InvalidChangeTokenException) return "invalid_token";
+        if (ex instanceof LookupTooLargeException) return "too_large";
+        if (ex instanceof OptimisticLockingFailureException) return "stale_version";
+        if (ex instanceof DataIntegrityViolationException) return "constraint_violation";
+        return "error";
+    }
+}
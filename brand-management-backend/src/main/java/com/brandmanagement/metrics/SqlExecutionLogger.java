@@ -0,0 +1,91 @@
+package com.brandmanagement.metrics;
+
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+/**
+ * Logs SQL statements that take at least the slow-query threshold, with their bind
+ * parameters and the service method that issued them, plus a random sample of the rest.
+ * Every other statement costs one elapsed-time comparison and nothing is formatted.
+ *
+ * Logger: com.brandmanagement.metrics.SqlExecutionLogger
+ *   WARN  slow statements
+ *   INFO  sampled statements (sample-rate of the fast ones; 0 disables sampling)
+ */
+@Slf4j
+public class SqlExecutionLogger implements QueryExecutionListener {
+
+    private static final int MAX_PARAMETER_SETS = 10;
+    private static final int MAX_VALUE_LENGTH = 100;
+
+    private final long thresholdMs;
+    private final double sampleRate;
+
+    public SqlExecutionLogger(Duration threshold, double sampleRate) {
+        this.thresholdMs = threshold.toMillis();
+        this.sampleRate = sampleRate;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        boolean slow = execInfo.getElapsedTime() >= thresholdMs;
+        if (!slow && (sampleRate <= 0 || ThreadLocalRandom.current().nextDouble() >= sampleRate)) {
+            return;
+        }
+        (slow ? log.atWarn() : log.atInfo())
+                .addKeyValue("elapsedMs", execInfo.getElapsedTime())
+                .addKeyValue("operation", CurrentOperation.get())
+                .addKeyValue("batchSize", execInfo.getBatchSize())
+                .addKeyValue("success", execInfo.isSuccess())
+                .log("{} query took {} ms in {}: {}",
+                        slow ? "Slow" : "Sampled", execInfo.getElapsedTime(),
+                        CurrentOperation.get(), describe(queryInfoList));
+    }
+
+    private static String describe(List<QueryInfo> queries) {
+        return queries.stream().map(SqlExecutionLogger::describe).collect(Collectors.joining("; "));
+    }
+
+    private static String describe(QueryInfo query) {
+        List<List<ParameterSetOperation>> parameterSets = query.getParametersList();
+        if (parameterSets.isEmpty()) {
+            return query.getQuery();
+        }
+        String params = parameterSets.stream()
+                .limit(MAX_PARAMETER_SETS)
+                .map(set -> set.stream()
+                        .map(SqlExecutionLogger::value)
+                        .collect(Collectors.joining(", ", "[", "]")))
+                .collect(Collectors.joining(", "));
+        if (parameterSets.size() > MAX_PARAMETER_SETS) {
+            params += ", ... (" + parameterSets.size() + " sets)";
+        }
+        return query.getQuery() + " params=" + params;
+    }
+
+    // args are (index, value[, type]); setNull's second arg is the SQL type, not a value
+    private static String value(ParameterSetOperation op) {
+        Object[] args = op.getArgs();
+        if ("setNull".equals(op.getMethod().getName()) || args.length < 2) {
+            return "NULL";
+        }
+        return abbreviate(args[1]);
+    }
+
+    private static String abbreviate(Object value) {
+        String s = String.valueOf(value);
+        return s.length() <= MAX_VALUE_LENGTH ? s : s.substring(0, MAX_VALUE_LENGTH) + "...";
+    }
+}
@@ -0,0 +1,68 @@
+package com.brandmanagement.metrics;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.QueryType;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * datasource-proxy listener that counts the SQL statements executed on the current thread,
+ * by type. It sees every statement that goes through the application DataSource: Hibernate's
+ * and JdbcTemplate's alike. A JDBC batch of one statement counts once.
+ * RequestSqlMetricsInterceptor resets the count per request and records it.
+ */
+public class SqlStatementCounter implements QueryExecutionListener {
+
+    private static final QueryType[] TYPES = {QueryType.SELECT, QueryType.INSERT, QueryType.UPDATE, QueryType.DELETE};
+    private static final ThreadLocal<int[]> COUNT = ThreadLocal.withInitial(() -> new int[QueryType.values().length]);
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        int[] count = COUNT.get();
+        for (QueryInfo query : queryInfoList) {
+            count[type(query.getQuery()).ordinal()]++;
+        }
+    }
+
+    public static void reset() {
+        Arrays.fill(COUNT.get(), 0);
+    }
+
+    /** Statements of every type since the last reset. */
+    public static int current() {
+        int total = 0;
+        for (int n : COUNT.get()) {
+            total += n;
+        }
+        return total;
+    }
+
+    /** Statements of one type (SELECT, INSERT, UPDATE, DELETE, OTHER) since the last reset. */
+    public static int current(QueryType type) {
+        return COUNT.get()[type.ordinal()];
+    }
+
+    public static void clear() {
+        COUNT.remove();
+    }
+
+    // Leading keyword only: no regex or lower-casing on every statement
+    private static QueryType type(String sql) {
+        int i = 0;
+        while (i < sql.length() && Character.isWhitespace(sql.charAt(i))) {
+            i++;
+        }
+        for (QueryType type : TYPES) {
+            if (sql.regionMatches(true, i, type.name(), 0, type.name().length())) {
+                return type;
+            }
+        }
+        return QueryType.OTHER;
+    }
+}
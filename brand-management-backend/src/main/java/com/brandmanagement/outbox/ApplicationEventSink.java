@@ -0,0 +1,30 @@
+package com.brandmanagement.outbox;
+
+import com.brandmanagement.entity.BrandOutboxEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Hands delivered events to in-process listeners as a {@link BrandEventBatch}.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.outbox.sinks.listener", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ApplicationEventSink implements BrandEventSink {
+
+    private final ApplicationEventPublisher publisher;
+
+    @Override
+    public String name() {
+        return "listener";
+    }
+
+    @Override
+    public void deliver(List<BrandOutboxEvent> events) {
+        publisher.publishEvent(new BrandEventBatch(List.copyOf(events)));
+    }
+}
@@ -0,0 +1,32 @@
+package com.brandmanagement.outbox;
+
+import com.brandmanagement.entity.BrandOutboxEvent;
+import com.brandmanagement.repository.BrandAuditRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Appends delivered events to the brand_audit history table. The copy commits or rolls back
+ * with the outbox delete, so unlike the other sinks this one records each event exactly once.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.outbox.sinks.audit", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class AuditHistorySink implements BrandEventSink {
+
+    private final BrandAuditRepository auditRepository;
+
+    @Override
+    public String name() {
+        return "audit";
+    }
+
+    @Override
+    public void deliver(List<BrandOutboxEvent> events) {
+        auditRepository.copyFromOutbox(events.stream().map(BrandOutboxEvent::getEventId).toList(), LocalDateTime.now());
+    }
+}
@@ -0,0 +1,13 @@
+package com.brandmanagement.outbox;
+
+import com.brandmanagement.entity.BrandOutboxEvent;
+
+import java.util.List;
+
+/**
+ * Application event published by ApplicationEventSink for each delivered batch.
+ * Plain @EventListener methods run on the relay thread, inside its transaction, and a
+ * listener that throws causes the batch to be redelivered.
+ */
+public record BrandEventBatch(List<BrandOutboxEvent> events) {
+}
@@ -0,0 +1,23 @@
+package com.brandmanagement.outbox;
+
+import com.brandmanagement.entity.BrandOutboxEvent;
+
+import java.util.List;
+
+/**
+ * Destination for committed brand events. Every enabled sink bean receives every batch the
+ * relay takes from the outbox, in event ID order.
+ *
+ * Delivery is at least once: deliver runs on the relay thread inside the transaction that
+ * deletes the batch from the outbox (on the batch's shard). If any sink throws, that
+ * transaction rolls back and the whole batch is offered to every sink again, so sinks must
+ * tolerate repeats (the event ID identifies an event). A slow sink slows the relay, never
+ * the writes; undelivered events wait in the outbox.
+ */
+public interface BrandEventSink {
+
+    /** Short name for logs and the sink meter tag. */
+    String name();
+
+    void deliver(List<BrandOutboxEvent> events);
+}
@@ -0,0 +1,230 @@
+package com.brandmanagement.outbox;
+
+import com.brandmanagement.entity.BrandOutboxEvent;
+import com.brandmanagement.metrics.Outcome;
+import com.brandmanagement.repository.BrandOutboxRepository;
+import com.brandmanagement.sharding.ShardRouter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Drains the brand outbox into the {@link BrandEventSink}s on one background thread.
+ *
+ * Each round takes up to batch-size of the oldest events per shard, locked with SKIP LOCKED
+ * so several instances can relay side by side, hands them to every sink and deletes them, all
+ * in one transaction. A full batch is followed immediately by the next one; otherwise the
+ * relay waits for the poll interval or for a committed write to wake it. A failing sink
+ * leaves the batch in the outbox and the relay retries with exponential backoff.
+ *
+ * Meters:
+ *   brand.outbox.lag             gauge   (shard)  age of the oldest undelivered event
+ *   brand.outbox.delivery.lag    timer            commit to delivery, per event
+ *   brand.outbox.sink.calls      timer   (sink, outcome)
+ *   brand.outbox.events          counter (sink, result = delivered | failed)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BrandOutboxRelay {
+
+    private final BrandOutboxRepository outboxRepository;
+    private final ObjectProvider<BrandEventSink> sinkBeans;
+    private final PlatformTransactionManager transactionManager;
+    private final ShardRouter shardRouter;
+    private final MeterRegistry registry;
+
+    @Value("${app.outbox.relay.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.outbox.relay.batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.outbox.relay.poll-interval:1s}")
+    private Duration pollInterval;
+
+    @Value("${app.outbox.relay.max-backoff:30s}")
+    private Duration maxBackoff;
+
+    private final Semaphore wake = new Semaphore(0);
+    private volatile boolean running;
+    private volatile Thread thread;
+    private List<BrandEventSink> sinks;
+    private AtomicLong[] lagMillis;
+    private Timer deliveryLag;
+
+    /* ─── Lifecycle ─────────────────────────────────────────────────── */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (!enabled || running) {
+            return;
+        }
+        // Every sink bean enabled by app.outbox.sinks.*, possibly none
+        sinks = sinkBeans.orderedStream().toList();
+        lagMillis = new AtomicLong[shardRouter.count()];
+        for (int shard = 0; shard < lagMillis.length; shard++) {
+            lagMillis[shard] = new AtomicLong();
+            TimeGauge.builder("brand.outbox.lag", lagMillis[shard], TimeUnit.MILLISECONDS, AtomicLong::get)
+                    .description("Age of the oldest brand event not yet delivered to the sinks")
+                    .tag("shard", String.valueOf(shard))
+                    .register(registry);
+        }
+        deliveryLag = Timer.builder("brand.outbox.delivery.lag")
+                .description("Time from a brand write to its event's delivery")
+                .publishPercentileHistogram()
+                .register(registry);
+
+        running = true;
+        thread = Thread.ofPlatform().name("brand-outbox-relay").daemon().start(this::relay);
+        log.info("Brand outbox relay started: sinks {}, batch size {}",
+                sinks.stream().map(BrandEventSink::name).toList(), batchSize);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        Thread relay = thread;
+        if (relay == null) {
+            return;
+        }
+        // Let the current batch finish; undelivered events stay in the outbox for the next start
+        running = false;
+        wake.release();
+        relay.join(Duration.ofSeconds(10));
+        if (relay.isAlive()) {
+            relay.interrupt();
+        }
+    }
+
+    /** Called after a brand write commits, so its events go out without waiting for the next poll. */
+    public void wakeUp() {
+        if (wake.availablePermits() == 0) {
+            wake.release();
+        }
+    }
+
+    /* ─── Relay loop ────────────────────────────────────────────────── */
+    private void relay() {
+        Duration backoff = Duration.ZERO;
+        while (running) {
+            boolean backlog = false;
+            boolean failed = false;
+            for (int shard = 0; shard < shardRouter.count() && running; shard++) {
+                int target = shard;
+                try {
+                    backlog |= shardRouter.on(shard, () -> drainBatch(target)) == batchSize;
+                } catch (RuntimeException e) {
+                    failed = true;
+                    log.warn("Brand outbox delivery failed on shard {}; retrying: {}", shard, e.toString());
+                }
+            }
+
+            if (failed) {
+                // Sleep, not wait: writes must not cut the backoff short while a sink is down
+                backoff = backoff.isZero() ? pollInterval : min(backoff.multipliedBy(2), maxBackoff);
+                sleep(backoff);
+            } else {
+                backoff = Duration.ZERO;
+                if (!backlog) {
+                    awaitWakeUp();
+                }
+            }
+        }
+    }
+
+    /** Delivers and deletes one batch of the current shard's outbox; returns its size. */
+    private int drainBatch(int shard) {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        List<BrandOutboxEvent> batch = tx.execute(status -> {
+            List<BrandOutboxEvent> events = outboxRepository.lockNextBatch(batchSize);
+            lagMillis[shard].set(events.stream()
+                    .map(BrandOutboxEvent::getOccurredAt)
+                    .min(Comparator.naturalOrder())
+                    .map(oldest -> Math.max(Duration.between(oldest, LocalDateTime.now()).toMillis(), 0))
+                    .orElse(0L));
+            if (events.isEmpty()) {
+                return events;
+            }
+            for (BrandEventSink sink : sinks) {
+                deliver(sink, events);
+            }
+            outboxRepository.deleteAllByIdInBatch(events.stream().map(BrandOutboxEvent::getEventId).toList());
+            return events;
+        });
+
+        LocalDateTime delivered = LocalDateTime.now();
+        for (BrandOutboxEvent event : batch) {
+            deliveryLag.record(Duration.between(event.getOccurredAt(), delivered));
+        }
+        return batch.size();
+    }
+
+    private void deliver(BrandEventSink sink, List<BrandOutboxEvent> events) {
+        Timer.Sample sample = Timer.start(registry);
+        String outcome = Outcome.SUCCESS;
+        try {
+            sink.deliver(events);
+        } catch (RuntimeException e) {
+            outcome = Outcome.of(e);
+            count(sink, "failed", events.size());
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("brand.outbox.sink.calls")
+                    .description("Time a sink takes to accept one outbox batch")
+                    .tag("sink", sink.name())
+                    .tag("outcome", outcome)
+                    .register(registry));
+        }
+        count(sink, "delivered", events.size());
+    }
+
+    private void count(BrandEventSink sink, String result, int events) {
+        Counter.builder("brand.outbox.events")
+                .description("Brand events handed to a sink")
+                .tag("sink", sink.name())
+                .tag("result", result)
+                .register(registry)
+                .increment(events);
+    }
+
+    private void awaitWakeUp() {
+        try {
+            wake.tryAcquire(pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+            wake.drainPermits();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+
+    private void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+
+    private static Duration min(Duration a, Duration b) {
+        return a.compareTo(b) <= 0 ? a : b;
+    }
+}
@@ -0,0 +1,42 @@
+package com.brandmanagement.outbox;
+
+import com.brandmanagement.entity.BrandOutboxEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Writes one line per event to the brand.events logger, which logback-spring.xml sends to
+ * its own file (BRAND_EVENTS_LOG, default logs/brand-events.log). A redelivered batch is
+ * logged again; consumers can drop repeats by eventId.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.outbox.sinks.log", name = "enabled", havingValue = "true")
+public class LogFileSink implements BrandEventSink {
+
+    private static final Logger EVENTS = LoggerFactory.getLogger("brand.events");
+
+    @Override
+    public String name() {
+        return "log";
+    }
+
+    @Override
+    public void deliver(List<BrandOutboxEvent> events) {
+        for (BrandOutboxEvent event : events) {
+            EVENTS.atInfo()
+                    .addKeyValue("eventId", event.getEventId())
+                    .addKeyValue("type", event.getEventType())
+                    .addKeyValue("brandId", event.getBrandId())
+                    .addKeyValue("chainId", event.getChainId())
+                    .addKeyValue("brandName", event.getBrandName())
+                    .addKeyValue("active", event.getIsActive())
+                    .addKeyValue("version", event.getBrandVersion())
+                    .addKeyValue("occurredAt", event.getOccurredAt())
+                    .log("{} brand {}", event.getEventType(), event.getBrandId());
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.brandmanagement.ratelimit;
+
+/**
+ * Classic token bucket: holds up to capacity tokens, refilled continuously at
+ * refillPerSecond. Refill is computed lazily on each attempt, so idle buckets cost nothing.
+ */
+public class TokenBucket {
+
+    private final double capacity;
+    private final double refillPerNano;
+
+    private double tokens;
+    private long lastRefill;
+
+    public TokenBucket(int capacity, double refillPerSecond) {
+        this.capacity = capacity;
+        this.refillPerNano = refillPerSecond / 1_000_000_000d;
+        this.tokens = capacity;
+        this.lastRefill = System.nanoTime();
+    }
+
+    /** Takes one token; returns 0 on success, otherwise the nanoseconds until one is available. */
+    public synchronized long tryConsume() {
+        long now = System.nanoTime();
+        tokens = Math.min(capacity, tokens + (now - lastRefill) * refillPerNano);
+        lastRefill = now;
+        if (tokens >= 1) {
+            tokens -= 1;
+            return 0;
+        }
+        return (long) Math.ceil((1 - tokens) / refillPerNano);
+    }
+}
@@ -0,0 +1,66 @@
+package com.brandmanagement.ratelimit;
+
+import com.brandmanagement.exception.RateLimitExceededException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limits brand writes (POST / PUT / DELETE) per client IP with a token bucket.
+ * A request over the limit fails with RateLimitExceededException (429 + Retry-After)
+ * before the controller runs. Buckets of idle clients expire after ten minutes.
+ *
+ * Meter: brand.ratelimit.requests counter (result = allowed | rejected)
+ */
+public class WriteRateLimitInterceptor implements HandlerInterceptor {
+
+    private static final Duration IDLE_BUCKET_EXPIRY = Duration.ofMinutes(10);
+    private static final long MAX_TRACKED_CLIENTS = 100_000;
+
+    private final int capacity;
+    private final double refillPerSecond;
+    private final Cache<String, TokenBucket> buckets = Caffeine.newBuilder()
+            .expireAfterAccess(IDLE_BUCKET_EXPIRY)
+            .maximumSize(MAX_TRACKED_CLIENTS)
+            .build();
+    private final Counter allowed;
+    private final Counter rejected;
+
+    public WriteRateLimitInterceptor(MeterRegistry registry, int capacity, double refillPerSecond) {
+        this.capacity = capacity;
+        this.refillPerSecond = refillPerSecond;
+        this.allowed = counter(registry, "allowed");
+        this.rejected = counter(registry, "rejected");
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        HttpMethod method = HttpMethod.valueOf(request.getMethod());
+        if (method != HttpMethod.POST && method != HttpMethod.PUT && method != HttpMethod.DELETE) {
+            return true;
+        }
+        TokenBucket bucket = buckets.get(request.getRemoteAddr(), client -> new TokenBucket(capacity, refillPerSecond));
+        long waitNanos = bucket.tryConsume();
+        if (waitNanos > 0) {
+            rejected.increment();
+            throw new RateLimitExceededException(Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999)));
+        }
+        allowed.increment();
+        return true;
+    }
+
+    private static Counter counter(MeterRegistry registry, String result) {
+        return Counter.builder("brand.ratelimit.requests")
+                .description("Brand write requests checked against the per-client rate limit")
+                .tag("result", result)
+                .register(registry);
+    }
+}
@@ -0,0 +1,131 @@
+package com.brandmanagement.reactive;
+
+import com.brandmanagement.coalescing.ReactiveSingleFlight;
+import com.brandmanagement.config.CacheConfig;
+import com.brandmanagement.dto.BrandDTO;
+import com.brandmanagement.dto.ChainDTO;
+import com.brandmanagement.exception.ResourceNotFoundException;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Brand and chain reads for the reactive API, over R2DBC. Same rows as the JPA queries behind
+ * BrandServiceImpl and ChainServiceImpl.
+ *
+ * Hits in the shared Caffeine caches (brand by ID, brands by chain, active chains) are served
+ * without touching the database. Misses are read here but not cached: MVC writes evict after
+ * commit, and a reactive load racing that eviction could otherwise put the old list back.
+ * Concurrent identical misses share one query (ReactiveSingleFlight), so a burst of clients
+ * holds one pooled connection per distinct query, only while its rows are fetched.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.reactive", name = "enabled", havingValue = "true")
+public class ReactiveBrandReader {
+
+    private static final String ACTIVE_BRANDS = """
+            SELECT b.brand_id, b.brand_name, c.chain_id, c.chain_name, b.is_active,
+                   b.created_at, b.updated_at, b.version
+            FROM brand b JOIN chain c ON c.chain_id = b.chain_id
+            WHERE b.is_active = TRUE
+            """;
+
+    private final DatabaseClient db;
+    private final CacheManager cacheManager;
+    private final ReactiveSingleFlight singleFlight;
+
+    /* ─── Active brands ─────────────────────────────────────────────── */
+    public Mono<List<BrandDTO>> activeBrands() {
+        return singleFlight.load("brands:all", null, () -> db.sql(ACTIVE_BRANDS + " ORDER BY b.brand_id")
+                .map(ReactiveBrandReader::toBrand)
+                .all()
+                .collectList());
+    }
+
+    /* ─── Active brands of one chain ────────────────────────────────── */
+    public Mono<List<BrandDTO>> brandsByChain(long chainId) {
+        List<BrandDTO> cached = cached(CacheConfig.BRANDS_BY_CHAIN, chainId);
+        if (cached != null) {
+            return Mono.just(cached);
+        }
+        // brand.chain_id, the partitioning column, so MySQL reads one partition
+        return singleFlight.load("brands:chain", chainId, () -> chainExists(chainId)
+                .flatMap(exists -> exists
+                        ? db.sql(ACTIVE_BRANDS + " AND b.chain_id = :chainId ORDER BY b.brand_id")
+                                .bind("chainId", chainId)
+                                .map(ReactiveBrandReader::toBrand)
+                                .all()
+                                .collectList()
+                        : Mono.error(new ResourceNotFoundException("Chain", chainId))));
+    }
+
+    /* ─── Active brand by ID ────────────────────────────────────────── */
+    public Mono<BrandDTO> brandById(long brandId) {
+        BrandDTO cached = cached(CacheConfig.BRAND_BY_ID, brandId);
+        if (cached != null) {
+            return Mono.just(cached);
+        }
+        return singleFlight.load("brand:id", brandId, () -> db.sql(ACTIVE_BRANDS + " AND b.brand_id = :brandId")
+                        .bind("brandId", brandId)
+                        .map(ReactiveBrandReader::toBrand)
+                        .one())
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Brand", brandId)));
+    }
+
+    /* ─── Active chains ─────────────────────────────────────────────── */
+    public Mono<List<ChainDTO>> activeChains() {
+        List<ChainDTO> cached = cached(CacheConfig.CHAINS, "active");
+        if (cached != null) {
+            return Mono.just(cached);
+        }
+        return singleFlight.load("chains:active", null, () -> db.sql("""
+                        SELECT chain_id, chain_name, is_active
+                        FROM chain
+                        WHERE is_active = TRUE
+                        ORDER BY chain_id
+                        """)
+                .map(row -> new ChainDTO(
+                        row.get("chain_id", Long.class),
+                        row.get("chain_name", String.class),
+                        row.get("is_active", Boolean.class)))
+                .all()
+                .collectList());
+    }
+
+    /* ─── Helpers ───────────────────────────────────────────────────── */
+    private Mono<Boolean> chainExists(long chainId) {
+        return db.sql("SELECT 1 FROM chain WHERE chain_id = :chainId")
+                .bind("chainId", chainId)
+                .map(row -> Boolean.TRUE)
+                .first()
+                .defaultIfEmpty(Boolean.FALSE);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T cached(String cacheName, Object key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        Cache.ValueWrapper hit = cache == null ? null : cache.get(key);
+        return hit == null ? null : (T) hit.get();
+    }
+
+    private static BrandDTO toBrand(Readable row) {
+        return new BrandDTO(
+                row.get("brand_id", Long.class),
+                row.get("brand_name", String.class),
+                row.get("chain_id", Long.class),
+                row.get("chain_name", String.class),
+                row.get("is_active", Boolean.class),
+                row.get("created_at", LocalDateTime.class),
+                row.get("updated_at", LocalDateTime.class),
+                row.get("version", Long.class));
+    }
+}
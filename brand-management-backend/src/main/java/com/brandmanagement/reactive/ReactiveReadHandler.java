@@ -0,0 +1,106 @@
+package com.brandmanagement.reactive;
+
+import com.brandmanagement.dto.BrandDTO;
+import com.brandmanagement.dto.ChainDTO;
+import com.brandmanagement.exception.ResourceNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Routes of the reactive read API. Paths, parameters and JSON match the MVC endpoints;
+ * errors use GlobalExceptionHandler's body (timestamp, status, error, message).
+ *
+ * Lists are written element by element as the client reads them: a slow client holds a
+ * socket and a few buffers, but no thread and no database connection. Clients that accept
+ * application/x-ndjson get one brand or chain per line instead of a JSON array.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.reactive", name = "enabled", havingValue = "true")
+public class ReactiveReadHandler {
+
+    private final ReactiveBrandReader reader;
+
+    public RouterFunction<ServerResponse> routes() {
+        return RouterFunctions.route()
+                .GET("/api/brands", this::brands)
+                .GET("/api/brands/{id}", this::brandById)
+                .GET("/api/chains", this::chains)
+                // One handler, so the mapping does not depend on the nesting order of onError filters
+                .onError(Exception.class, (e, request) -> {
+                    if (e instanceof ResourceNotFoundException) {
+                        return error(HttpStatus.NOT_FOUND, e.getMessage());
+                    }
+                    if (e instanceof NumberFormatException) {
+                        return error(HttpStatus.BAD_REQUEST, "Invalid number: " + e.getMessage());
+                    }
+                    log.error("Reactive read {} failed", request.path(), e);
+                    return error(HttpStatus.INTERNAL_SERVER_ERROR, "An unexpected error occurred: " + e.getMessage());
+                })
+                .build();
+    }
+
+    /**
+     * GET /api/brands
+     * GET /api/brands?chainId={id}
+     * All active brands, or those of one chain (404 if the chain does not exist).
+     */
+    private Mono<ServerResponse> brands(ServerRequest request) {
+        Mono<List<BrandDTO>> brands = request.queryParam("chainId")
+                .map(chainId -> reader.brandsByChain(Long.parseLong(chainId)))
+                .orElseGet(reader::activeBrands);
+        return brands.flatMap(list -> stream(request, list, BrandDTO.class));
+    }
+
+    /**
+     * GET /api/brands/{id}
+     * Returns a single active brand (404 if missing or deleted).
+     */
+    private Mono<ServerResponse> brandById(ServerRequest request) {
+        return reader.brandById(Long.parseLong(request.pathVariable("id")))
+                .flatMap(brand -> ServerResponse.ok().contentType(MediaType.APPLICATION_JSON).bodyValue(brand));
+    }
+
+    /**
+     * GET /api/chains
+     * Returns all active chains (for dropdowns).
+     */
+    private Mono<ServerResponse> chains(ServerRequest request) {
+        return reader.activeChains().flatMap(list -> stream(request, list, ChainDTO.class));
+    }
+
+    /* ─── Helpers ───────────────────────────────────────────────────── */
+    // The list is loaded before the response starts, so a 404 or a failed query still gets a
+    // proper status; writing it out is then driven by the client's demand
+    private static <T> Mono<ServerResponse> stream(ServerRequest request, List<T> items, Class<T> type) {
+        MediaType contentType = request.headers().accept().contains(MediaType.APPLICATION_NDJSON)
+                ? MediaType.APPLICATION_NDJSON
+                : MediaType.APPLICATION_JSON;
+        return ServerResponse.ok().contentType(contentType).body(Flux.fromIterable(items), type);
+    }
+
+    private static Mono<ServerResponse> error(HttpStatus status, String message) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("timestamp", LocalDateTime.now().toString());
+        body.put("status", status.value());
+        body.put("error", status.getReasonPhrase());
+        body.put("message", message);
+        return ServerResponse.status(status).contentType(MediaType.APPLICATION_JSON).bodyValue(body);
+    }
+}
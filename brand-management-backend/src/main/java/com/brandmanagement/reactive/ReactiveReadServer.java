@@ -0,0 +1,95 @@
+package com.brandmanagement.reactive;
+
+import com.brandmanagement.sharding.ShardRouter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.server.reactive.HttpHandler;
+import org.springframework.http.server.reactive.ReactorHttpHandlerAdapter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+import java.time.Duration;
+
+/**
+ * Serves the reactive read API on its own Netty port (app.reactive.port), next to Tomcat,
+ * which keeps every write and all other endpoints. A handful of event-loop threads serve all
+ * connections; nothing on this server blocks.
+ *
+ * JSON comes from the application's ObjectMapper, so brands serialize exactly as on the MVC
+ * port. Not available with app.shards.urls: the R2DBC pool reads a single database.
+ *
+ * Meters: reactor.netty.http.server.* (uri = /api/brands, /api/brands/{id}, /api/chains)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.reactive", name = "enabled", havingValue = "true")
+public class ReactiveReadServer {
+
+    private final ReactiveReadHandler handler;
+    private final ObjectMapper objectMapper;
+    private final ShardRouter shardRouter;
+
+    @Value("${app.reactive.port:8081}")
+    private int port;
+
+    private DisposableServer server;
+
+    /* ─── Lifecycle ─────────────────────────────────────────────────── */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (server != null) {
+            return;
+        }
+        if (shardRouter.isSharded()) {
+            throw new IllegalStateException("app.reactive.enabled is not supported with app.shards.urls");
+        }
+        HandlerStrategies strategies = HandlerStrategies.builder()
+                .codecs(codecs -> {
+                    codecs.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(objectMapper));
+                    codecs.defaultCodecs().jackson2JsonDecoder(new Jackson2JsonDecoder(objectMapper));
+                })
+                .build();
+        HttpHandler httpHandler = RouterFunctions.toHttpHandler(handler.routes(), strategies);
+
+        server = HttpServer.create()
+                .port(port)
+                .metrics(true, ReactiveReadServer::uriTemplate)
+                .handle(new ReactorHttpHandlerAdapter(httpHandler))
+                .bindNow();
+        log.info("Reactive read API listening on port {}", server.port());
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        if (server != null) {
+            // Lets in-flight responses finish, like Tomcat's graceful shutdown
+            server.disposeNow(Duration.ofSeconds(10));
+            server = null;
+        }
+    }
+
+    /** The bound port; differs from app.reactive.port when that is 0. */
+    public synchronized int port() {
+        if (server == null) {
+            throw new IllegalStateException("Reactive read API is not running");
+        }
+        return server.port();
+    }
+
+    // Brand IDs would make one meter per brand
+    private static String uriTemplate(String uri) {
+        return uri.startsWith("/api/brands/") ? "/api/brands/{id}" : uri;
+    }
+}
@@ -0,0 +1,27 @@
+package com.brandmanagement.repository;
+
+import com.brandmanagement.entity.BrandAuditEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+@Repository
+public interface BrandAuditRepository extends JpaRepository<BrandAuditEntry, Long> {
+
+    // Copy outbox events into the audit history in one statement, without loading them
+    @Modifying
+    @Query("""
+        INSERT INTO BrandAuditEntry (eventId, eventType, brandId, chainId, brandName, isActive,
+                                     brandVersion, occurredAt, recordedAt)
+        SELECT e.eventId, e.eventType, e.brandId, e.chainId, e.brandName, e.isActive,
+               e.brandVersion, e.occurredAt, :recordedAt
+        FROM BrandOutboxEvent e
+        WHERE e.eventId IN :eventIds
+        """)
+    int copyFromOutbox(@Param("eventIds") Collection<Long> eventIds, @Param("recordedAt") LocalDateTime recordedAt);
+}
@@ -0,0 +1,23 @@
+package com.brandmanagement.repository;
+
+import com.brandmanagement.entity.BrandOutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface BrandOutboxRepository extends JpaRepository<BrandOutboxEvent, Long>, BrandOutboxRepositoryCustom {
+
+    // Oldest undelivered events, locked until the relay's transaction ends; rows locked by
+    // another relay instance are skipped rather than waited for
+    @Query(value = """
+        SELECT * FROM brand_outbox
+        ORDER BY event_id
+        LIMIT :limit
+        FOR UPDATE SKIP LOCKED
+        """, nativeQuery = true)
+    List<BrandOutboxEvent> lockNextBatch(@Param("limit") int limit);
+}
@@ -0,0 +1,17 @@
+package com.brandmanagement.repository;
+
+import com.brandmanagement.entity.BrandOutboxEvent;
+
+import java.util.List;
+
+/**
+ * Hand-written BrandOutboxRepository operations that Spring Data cannot derive.
+ */
+public interface BrandOutboxRepositoryCustom {
+
+    /**
+     * Inserts the events with JDBC batching on the caller's transaction; event IDs are
+     * generated by the database and not read back.
+     */
+    void appendAll(List<BrandOutboxEvent> events);
+}
@@ -0,0 +1,43 @@
+package com.brandmanagement.repository;
+
+import com.brandmanagement.entity.BrandOutboxEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+
+/**
+ * JDBC implementation of {@link BrandOutboxRepositoryCustom}.
+ * Every brand write appends its events here, so the insert is one batched statement with
+ * no persistence-context bookkeeping and no generated-key round trip.
+ */
+@RequiredArgsConstructor
+public class BrandOutboxRepositoryImpl implements BrandOutboxRepositoryCustom {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private static final String INSERT_SQL = """
+        INSERT INTO brand_outbox (event_type, brand_id, chain_id, brand_name, is_active, brand_version, occurred_at)
+        VALUES (?, ?, ?, ?, ?, ?, ?)
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void appendAll(List<BrandOutboxEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, events, BATCH_SIZE, (ps, event) -> {
+            ps.setString(1, event.getEventType().name());
+            ps.setLong(2, event.getBrandId());
+            ps.setObject(3, event.getChainId(), Types.BIGINT);
+            ps.setString(4, event.getBrandName());
+            ps.setBoolean(5, event.getIsActive());
+            ps.setObject(6, event.getBrandVersion(), Types.BIGINT);
+            ps.setTimestamp(7, Timestamp.valueOf(event.getOccurredAt()));
+        });
+    }
+}
@@ -1,37 +1,166 @@
 package com.brandmanagement.repository;
 
+import com.brandmanagement.dto.BrandDTO;
 import com.brandmanagement.entity.Brand;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface BrandRepository extends JpaRepository<Brand, Long> {
+public interface BrandRepository extends JpaRepository<Brand, Long>, BrandRepositoryCustom {
 
-    // All active brands
-    List<Brand> findByIsActiveTrue();
-
-    // Active brands filtered by chain
-    List<Brand> findByChain_ChainIdAndIsActiveTrue(Long chainId);
-
-    // Check duplicate: same brand name + same chain (case-insensitive), excluding a specific ID
+    // Check duplicate: same normalized brand name + same chain, excluding a specific ID
+    // (served by the uq_brand_norm_name_chain_active index)
     @Query("""
         SELECT COUNT(b) > 0 FROM Brand b
-        WHERE LOWER(b.brandName) = LOWER(:brandName)
+        WHERE b.normalizedName = :normalizedName
           AND b.chain.chainId = :chainId
           AND b.isActive = true
           AND (:excludeId IS NULL OR b.brandId <> :excludeId)
         """)
-    boolean existsByBrandNameAndChainIgnoreCase(
-        @Param("brandName") String brandName,
+    boolean existsActiveByNormalizedNameAndChain(
+        @Param("normalizedName") String normalizedName,
         @Param("chainId") Long chainId,
         @Param("excludeId") Long excludeId
     );
 
+    // Set-based duplicate check: normalized names already active under the given chains, as [name, chainId]
+    @Query("""
+        SELECT b.normalizedName, b.chain.chainId FROM Brand b
+        WHERE b.normalizedName IN :normalizedNames
+          AND b.chain.chainId IN :chainIds
+          AND b.isActive = true
+        """)
+    List<Object[]> findActiveNameChainPairs(
+        @Param("normalizedNames") Collection<String> normalizedNames,
+        @Param("chainIds") Collection<Long> chainIds
+    );
+
     // Active brand by ID
     Optional<Brand> findByBrandIdAndIsActiveTrue(Long brandId);
+
+    // [brandId, chainId] of the given IDs that are still active
+    @Query("""
+        SELECT b.brandId, b.chain.chainId FROM Brand b
+        WHERE b.brandId IN :brandIds
+          AND b.isActive = true
+        """)
+    List<Object[]> findActiveBrandChainPairs(@Param("brandIds") Collection<Long> brandIds);
+
+    // Soft delete many brands with one statement; returns affected rows
+    @Modifying
+    @Query("""
+        UPDATE Brand b SET b.isActive = false, b.updatedAt = :now, b.version = b.version + 1
+        WHERE b.brandId IN :brandIds
+          AND b.isActive = true
+        """)
+    int deactivateAll(@Param("brandIds") Collection<Long> brandIds, @Param("now") LocalDateTime now);
+
+    // Soft delete one brand unless an active zone references it; returns affected rows (0 or 1)
+    @Modifying
+    @Query("""
+        UPDATE Brand b SET b.isActive = false, b.updatedAt = :now, b.version = b.version + 1
+        WHERE b.brandId = :brandId
+          AND b.isActive = true
+          AND NOT EXISTS (SELECT 1 FROM Zone z WHERE z.brand.brandId = :brandId AND z.isActive = true)
+        """)
+    int deactivateIfNotLinkedToZone(@Param("brandId") Long brandId, @Param("now") LocalDateTime now);
+
+    // Brands (active or soft-deleted) changed after the (since, afterId) position and no later than :until,
+    // in (updated_at, brand_id) order; the first predicate is a range scan on idx_brand_updated_at_id
+    @Query("""
+        SELECT new com.brandmanagement.dto.BrandDTO(
+            b.brandId, b.brandName, c.chainId, c.chainName, b.isActive, b.createdAt, b.updatedAt, b.version)
+        FROM Brand b JOIN b.chain c
+        WHERE b.updatedAt >= :since
+          AND (b.updatedAt > :since OR b.brandId > :afterId)
+          AND b.updatedAt <= :until
+        ORDER BY b.updatedAt, b.brandId
+        """)
+    List<BrandDTO> findChangesAfter(
+        @Param("since") LocalDateTime since,
+        @Param("afterId") Long afterId,
+        @Param("until") LocalDateTime until,
+        Pageable pageable
+    );
+
+    // Active brand by ID with its chain loaded in the same statement
+    @Query("""
+        SELECT b FROM Brand b JOIN FETCH b.chain
+        WHERE b.brandId = :brandId
+          AND b.isActive = true
+        """)
+    Optional<Brand> findActiveWithChainById(@Param("brandId") Long brandId);
+
+    // Chain ID of a brand, without loading the entity
+    @Query("SELECT b.chain.chainId FROM Brand b WHERE b.brandId = :brandId")
+    Optional<Long> findChainIdByBrandId(@Param("brandId") Long brandId);
+
+    /* ─── DTO projections (single join, no lazy chain loads) ────────── */
+
+    // All active brands with their chain, built straight into DTOs
+    @Query("""
+        SELECT new com.brandmanagement.dto.BrandDTO(
+            b.brandId, b.brandName, c.chainId, c.chainName, b.isActive, b.createdAt, b.updatedAt, b.version)
+        FROM Brand b JOIN b.chain c
+        WHERE b.isActive = true
+        """)
+    List<BrandDTO> findActiveBrandDTOs();
+
+    // Active brands of one chain, built straight into DTOs. Chain filters here test
+    // b.chain.chainId (brand.chain_id, the partitioning column) so MySQL reads one partition
+    @Query("""
+        SELECT new com.brandmanagement.dto.BrandDTO(
+            b.brandId, b.brandName, c.chainId, c.chainName, b.isActive, b.createdAt, b.updatedAt, b.version)
+        FROM Brand b JOIN b.chain c
+        WHERE b.chain.chainId = :chainId
+          AND b.isActive = true
+        """)
+    List<BrandDTO> findActiveBrandDTOsByChainId(@Param("chainId") Long chainId);
+
+    // Active brand by ID, built straight into a DTO
+    @Query("""
+        SELECT new com.brandmanagement.dto.BrandDTO(
+            b.brandId, b.brandName, c.chainId, c.chainName, b.isActive, b.createdAt, b.updatedAt, b.version)
+        FROM Brand b JOIN b.chain c
+        WHERE b.brandId = :brandId
+          AND b.isActive = true
+        """)
+    Optional<BrandDTO> findActiveBrandDTOById(@Param("brandId") Long brandId);
+
+    // Active brands among the given IDs, built straight into DTOs (callers chunk the IN list)
+    @Query("""
+        SELECT new com.brandmanagement.dto.BrandDTO(
+            b.brandId, b.brandName, c.chainId, c.chainName, b.isActive, b.createdAt, b.updatedAt, b.version)
+        FROM Brand b JOIN b.chain c
+        WHERE b.brandId IN :brandIds
+          AND b.isActive = true
+        """)
+    List<BrandDTO> findActiveBrandDTOsByIds(@Param("brandIds") Collection<Long> brandIds);
+
+    /* ─── Keyset pagination ─────────────────────────────────────────── */
+
+    // One page of active brands with brand_id > :after (page size taken from the Pageable)
+    @Query("""
+        SELECT new com.brandmanagement.dto.BrandDTO(
+            b.brandId, b.brandName, c.chainId, c.chainName, b.isActive, b.createdAt, b.updatedAt, b.version)
+        FROM Brand b JOIN b.chain c
+        WHERE b.isActive = true
+          AND (:chainId IS NULL OR b.chain.chainId = :chainId)
+          AND (:after IS NULL OR b.brandId > :after)
+        ORDER BY b.brandId
+        """)
+    List<BrandDTO> findActiveBrandDTOPage(
+        @Param("chainId") Long chainId,
+        @Param("after") Long after,
+        Pageable pageable
+    );
 }
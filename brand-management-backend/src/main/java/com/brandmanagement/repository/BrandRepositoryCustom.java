@@ -0,0 +1,31 @@
+package com.brandmanagement.repository;
+
+import com.brandmanagement.dto.BrandRequestDTO;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Hand-written BrandRepository operations that Spring Data cannot derive.
+ */
+public interface BrandRepositoryCustom {
+
+    /**
+     * Inserts the given brands as active rows using JDBC batching and returns
+     * the generated brand IDs in input order. now is used for created_at and updated_at.
+     */
+    List<Long> insertActiveBrands(List<BrandRequestDTO> brands, LocalDateTime now);
+
+    /**
+     * Streams active brands (optionally of one chain) ordered by ID, handing each row's
+     * columns to the handler as they are read; no entity or DTO is created per row.
+     */
+    void forEachActiveBrand(Long chainId, BrandRowHandler handler);
+
+    /** Receives one row of {@link #forEachActiveBrand}; columns follow BrandDTO's fields. */
+    @FunctionalInterface
+    interface BrandRowHandler {
+        void row(long brandId, String brandName, long chainId, String chainName,
+                 boolean active, LocalDateTime createdAt, LocalDateTime updatedAt, long version);
+    }
+}
@@ -0,0 +1,102 @@
+package com.brandmanagement.repository;
+
+import com.brandmanagement.dto.BrandRequestDTO;
+import com.brandmanagement.entity.Brand;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JDBC implementation of {@link BrandRepositoryCustom}.
+ * Hibernate cannot batch IDENTITY inserts, so bulk inserts bypass the persistence context
+ * and use plain JDBC batches on the transaction-bound connection. Bulk reads for export
+ * likewise go straight from the ResultSet to the caller.
+ */
+@RequiredArgsConstructor
+public class BrandRepositoryImpl implements BrandRepositoryCustom {
+
+    private static final int BATCH_SIZE = 1000;
+    private static final int STREAM_FETCH_SIZE = 1000;
+
+    private static final String INSERT_SQL = """
+        INSERT INTO brand (brand_name, brand_name_normalized, chain_id, is_active, version, created_at, updated_at)
+        VALUES (?, ?, ?, true, 0, ?, ?)
+        """;
+
+    private static final String ACTIVE_BRANDS_SQL = """
+        SELECT b.brand_id, b.brand_name, c.chain_id, c.chain_name, b.is_active, b.created_at, b.updated_at, b.version
+        FROM brand b JOIN chain c ON c.chain_id = b.chain_id
+        WHERE b.is_active = true
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<Long> insertActiveBrands(List<BrandRequestDTO> brands, LocalDateTime now) {
+        List<Long> ids = new ArrayList<>(brands.size());
+        if (brands.isEmpty()) {
+            return ids;
+        }
+        Timestamp timestamp = Timestamp.valueOf(now);
+
+        return jdbcTemplate.execute((ConnectionCallback<List<Long>>) con -> {
+            try (PreparedStatement ps = con.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS)) {
+                for (int from = 0; from < brands.size(); from += BATCH_SIZE) {
+                    int to = Math.min(from + BATCH_SIZE, brands.size());
+                    for (BrandRequestDTO brand : brands.subList(from, to)) {
+                        ps.setString(1, brand.getBrandName());
+                        ps.setString(2, Brand.normalizeName(brand.getBrandName()));
+                        ps.setLong(3, brand.getChainId());
+                        ps.setTimestamp(4, timestamp);
+                        ps.setTimestamp(5, timestamp);
+                        ps.addBatch();
+                    }
+                    ps.executeBatch();
+                    try (ResultSet keys = ps.getGeneratedKeys()) {
+                        while (keys.next()) {
+                            ids.add(keys.getLong(1));
+                        }
+                    }
+                }
+            }
+            return ids;
+        });
+    }
+
+    @Override
+    public void forEachActiveBrand(Long chainId, BrandRowHandler handler) {
+        String sql = ACTIVE_BRANDS_SQL + (chainId != null ? "AND b.chain_id = ? " : "") + "ORDER BY b.brand_id";
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            // MIN_VALUE makes MySQL Connector/J stream rows; other drivers reject negative sizes
+            boolean mysql = "MySQL".equals(con.getMetaData().getDatabaseProductName());
+            ps.setFetchSize(mysql ? Integer.MIN_VALUE : STREAM_FETCH_SIZE);
+            if (chainId != null) {
+                ps.setLong(1, chainId);
+            }
+            return ps;
+        }, (RowCallbackHandler) rs -> handler.row(
+                rs.getLong(1),
+                rs.getString(2),
+                rs.getLong(3),
+                rs.getString(4),
+                rs.getBoolean(5),
+                toLocalDateTime(rs.getTimestamp(6)),
+                toLocalDateTime(rs.getTimestamp(7)),
+                rs.getLong(8)));
+    }
+
+    // Via Timestamp, like Hibernate and the inserts above, so the driver's time-zone handling matches
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+}
@@ -0,0 +1,22 @@
+package com.brandmanagement.repository;
+
+import com.brandmanagement.entity.CatalogVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface CatalogVersionRepository extends JpaRepository<CatalogVersion, String> {
+
+    // Increment a catalog's version in place; returns 0 if the catalog row does not exist yet
+    @Modifying
+    @Query("""
+        UPDATE CatalogVersion v SET v.version = v.version + 1, v.updatedAt = :now
+        WHERE v.catalogName = :catalogName
+        """)
+    int bump(@Param("catalogName") String catalogName, @Param("now") LocalDateTime now);
+}
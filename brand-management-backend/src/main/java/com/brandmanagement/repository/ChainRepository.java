@@ -1,13 +1,43 @@
 package com.brandmanagement.repository;
 
+import com.brandmanagement.dto.ChainSummaryDTO;
 import com.brandmanagement.entity.Chain;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
 public interface ChainRepository extends JpaRepository<Chain, Long> {
 
     List<Chain> findByIsActiveTrue();
+
+    // Per-chain brand/zone counts for every active chain in one aggregate query
+    @Query("""
+        SELECT new com.brandmanagement.dto.ChainSummaryDTO(
+            c.chainId,
+            c.chainName,
+            COALESCE(SUM(CASE WHEN b.isActive = true THEN 1 ELSE 0 END), 0),
+            COALESCE(SUM(CASE WHEN b.isActive = false THEN 1 ELSE 0 END), 0),
+            (SELECT COUNT(z) FROM Zone z WHERE z.brand.chain.chainId = c.chainId AND z.isActive = true),
+            c.updatedAt,
+            MAX(b.updatedAt))
+        FROM Chain c LEFT JOIN c.brands b
+        WHERE c.isActive = true
+        GROUP BY c.chainId, c.chainName, c.updatedAt
+        ORDER BY c.chainName
+        """)
+    List<ChainSummaryDTO> findChainSummaries();
+
+    // Row count and latest change of the (small) chain table, for listing ETags
+    @Query("SELECT COUNT(c) AS count, MAX(c.updatedAt) AS lastModified FROM Chain c")
+    ChainStamp findStamp();
+
+    interface ChainStamp {
+        long getCount();
+
+        LocalDateTime getLastModified();
+    }
 }
@@ -0,0 +1,25 @@
+package com.brandmanagement.repository;
+
+import com.brandmanagement.entity.Zone;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ZoneRepository extends JpaRepository<Zone, Long> {
+
+    // Whether the brand has at least one active zone (LIMIT 1 probe on idx_zone_brand_active)
+    boolean existsByBrand_BrandIdAndIsActiveTrue(Long brandId);
+
+    // Which of the given brands have at least one active zone
+    @Query("""
+        SELECT DISTINCT z.brand.brandId FROM Zone z
+        WHERE z.brand.brandId IN :brandIds
+          AND z.isActive = true
+        """)
+    List<Long> findBrandIdsWithActiveZones(@Param("brandIds") Collection<Long> brandIds);
+}
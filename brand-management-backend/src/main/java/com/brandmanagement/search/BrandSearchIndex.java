@@ -0,0 +1,263 @@
+package com.brandmanagement.search;
+
+import com.brandmanagement.datasource.PrimaryRead;
+import com.brandmanagement.dto.BrandChangeDTO;
+import com.brandmanagement.dto.BrandDTO;
+import com.brandmanagement.dto.BrandSearchResultDTO;
+import com.brandmanagement.entity.Brand;
+import com.brandmanagement.repository.BrandRepository;
+import com.brandmanagement.sharding.ShardRouter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Consumer;
+
+/**
+ * In-memory prefix index over active brand names.
+ *
+ * Sorted maps are kept keyed by the whole normalized name and by each name token (split
+ * on non-alphanumerics), once across the catalog and once per chain, so a chain filter is
+ * a narrower range rather than a filter over the whole one. A query is answered with a
+ * range scan over [prefix, prefix + U+FFFF): whole-name prefix matches first, then brands
+ * whose tokens match every query token by prefix. Every candidate of the whole-name range
+ * is a hit, so that scan stops at limit; the token scan verifies the other query tokens and
+ * gives up after MAX_TOKEN_CANDIDATES entries, so an unselective multi-token query may
+ * return fewer than limit hits but never walks the catalog.
+ *
+ * Built once at startup (from every shard). BrandServiceImpl applies this instance's writes
+ * after each commit; BrandChangeFeedPoller applies everyone's from the change feed, so a write
+ * through another instance is searchable here at most app.changes.settle-lag plus one
+ * app.changes.poll.interval after its commit (about 6s by default). A poll that read a brand
+ * just before a local write to it committed may briefly put back the older name; the poll that
+ * reads the write corrects it within the same bound.
+ * CatalogSnapshotHolder may load it from the catalog snapshot first, and then skips the build.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BrandSearchIndex {
+
+    private static final char KEY_SEPARATOR = '\u0000';
+    private static final char RANGE_END = '\uffff';
+    static final int MAX_TOKEN_CANDIDATES = 10_000;
+
+    private final BrandRepository brandRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final ShardRouter shardRouter;
+
+    // Readers take the current maps once per query; builds fill new ones and swap them in
+    private volatile Maps maps = new Maps();
+    // Writes made while a build streams rows, replayed onto the new maps before the swap
+    private List<Consumer<Maps>> journal;
+
+    private volatile boolean loaded;
+
+    private record Entry(BrandSearchResultDTO brand, String name, String[] tokens) {
+    }
+
+    private static final class Maps {
+        final Map<Long, Entry> byId = new ConcurrentHashMap<>();
+        final ConcurrentSkipListMap<String, Entry> byName = new ConcurrentSkipListMap<>();
+        final ConcurrentSkipListMap<String, Entry> byToken = new ConcurrentSkipListMap<>();
+        final ConcurrentSkipListMap<String, Entry> byChainName = new ConcurrentSkipListMap<>();
+        final ConcurrentSkipListMap<String, Entry> byChainToken = new ConcurrentSkipListMap<>();
+
+        void upsert(BrandSearchResultDTO brand) {
+            remove(brand.getBrandId());
+            String name = Brand.normalizeName(brand.getBrandName());
+            Entry entry = new Entry(brand, name, tokenize(name));
+            Long id = brand.getBrandId();
+            Long chainId = brand.getChainId();
+            byId.put(id, entry);
+            byName.put(key(name, id), entry);
+            byChainName.put(key(chainPrefix(chainId, name), id), entry);
+            for (String token : entry.tokens()) {
+                byToken.put(key(token, id), entry);
+                byChainToken.put(key(chainPrefix(chainId, token), id), entry);
+            }
+        }
+
+        void remove(Long brandId) {
+            Entry entry = byId.remove(brandId);
+            if (entry == null) {
+                return;
+            }
+            Long chainId = entry.brand().getChainId();
+            byName.remove(key(entry.name(), brandId));
+            byChainName.remove(key(chainPrefix(chainId, entry.name()), brandId));
+            for (String token : entry.tokens()) {
+                byToken.remove(key(token, brandId));
+                byChainToken.remove(key(chainPrefix(chainId, token), brandId));
+            }
+        }
+    }
+
+    /* ─── Build ──────────────────────────────────────────────────────── */
+    @PrimaryRead
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        if (loaded) {
+            log.info("Brand search index already loaded with {} brands", size());
+            return;
+        }
+        long start = System.nanoTime();
+        Maps building = new Maps();
+        synchronized (this) {
+            journal = new ArrayList<>();
+        }
+        try {
+            TransactionTemplate tx = new TransactionTemplate(transactionManager);
+            tx.setReadOnly(true);
+            for (int shard = 0; shard < shardRouter.count(); shard++) {
+                shardRouter.run(shard, () -> tx.executeWithoutResult(status ->
+                        brandRepository.forEachActiveBrand(null,
+                                (brandId, brandName, chainId, chainName, active, createdAt, updatedAt, version) ->
+                                        building.upsert(BrandSearchResultDTO.builder()
+                                                .brandId(brandId)
+                                                .brandName(brandName)
+                                                .chainId(chainId)
+                                                .chainName(chainName)
+                                                .build()))));
+            }
+            synchronized (this) {
+                // A brand deleted or renamed after the stream read it is corrected here
+                journal.forEach(write -> write.accept(building));
+                maps = building;
+                loaded = true;
+            }
+        } finally {
+            synchronized (this) {
+                journal = null;
+            }
+        }
+        log.info("Brand search index built with {} brands in {} ms", size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /** Replaces the whole index with the given brands (a catalog snapshot). */
+    public synchronized void replaceAll(Collection<BrandDTO> brands) {
+        Maps replacement = new Maps();
+        for (BrandDTO dto : brands) {
+            replacement.upsert(toResult(dto));
+        }
+        maps = replacement;
+        loaded = true;
+    }
+
+    /* ─── Maintenance ────────────────────────────────────────────────── */
+    // Writers are serialized so an entry's name and token keys change together; readers never block
+    public synchronized void upsert(BrandSearchResultDTO brand) {
+        maps.upsert(brand);
+        if (journal != null) {
+            journal.add(m -> m.upsert(brand));
+        }
+    }
+
+    public synchronized void remove(Long brandId) {
+        maps.remove(brandId);
+        if (journal != null) {
+            journal.add(m -> m.remove(brandId));
+        }
+    }
+
+    /** Applies change-feed rows: indexes created and updated brands, un-indexes deleted ones. */
+    public synchronized void apply(List<BrandChangeDTO> changes) {
+        for (BrandChangeDTO change : changes) {
+            if (change.getType() == BrandChangeDTO.Type.DELETED) {
+                remove(change.getBrand().getBrandId());
+            } else {
+                upsert(toResult(change.getBrand()));
+            }
+        }
+    }
+
+    public int size() {
+        return maps.byId.size();
+    }
+
+    private static BrandSearchResultDTO toResult(BrandDTO dto) {
+        return BrandSearchResultDTO.builder()
+                .brandId(dto.getBrandId())
+                .brandName(dto.getBrandName())
+                .chainId(dto.getChainId())
+                .chainName(dto.getChainName())
+                .build();
+    }
+
+    /* ─── Query ──────────────────────────────────────────────────────── */
+    public List<BrandSearchResultDTO> search(String query, Long chainId, int limit) {
+        String q = Brand.normalizeName(query);
+        if (q == null || q.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        Maps index = maps;
+        Map<Long, BrandSearchResultDTO> hits = new LinkedHashMap<>();
+
+        // 1. Whole-name prefix matches
+        collect(chainId == null ? range(index.byName, q) : range(index.byChainName, chainPrefix(chainId, q)),
+                null, limit, hits);
+
+        // 2. Token matches: scan the longest (most selective) query token, verify the rest
+        String[] queryTokens = tokenize(q);
+        if (hits.size() < limit && queryTokens.length > 0) {
+            String driver = Arrays.stream(queryTokens).max(Comparator.comparingInt(String::length)).get();
+            collect(chainId == null ? range(index.byToken, driver) : range(index.byChainToken, chainPrefix(chainId, driver)),
+                    queryTokens, limit, hits);
+        }
+        return new ArrayList<>(hits.values());
+    }
+
+    private static void collect(Collection<Entry> candidates, String[] queryTokens,
+                                int limit, Map<Long, BrandSearchResultDTO> hits) {
+        int scanned = 0;
+        for (Entry entry : candidates) {
+            if (hits.size() >= limit || ++scanned > MAX_TOKEN_CANDIDATES) {
+                return;
+            }
+            if (queryTokens != null && !matchesAllTokens(entry.tokens(), queryTokens)) continue;
+            hits.putIfAbsent(entry.brand().getBrandId(), entry.brand());
+        }
+    }
+
+    private static boolean matchesAllTokens(String[] nameTokens, String[] queryTokens) {
+        for (String queryToken : queryTokens) {
+            boolean found = false;
+            for (String nameToken : nameTokens) {
+                if (nameToken.startsWith(queryToken)) {
+                    found = true;
+                    break;
+                }
+            }
+            if (!found) return false;
+        }
+        return true;
+    }
+
+    private static Collection<Entry> range(ConcurrentSkipListMap<String, Entry> map, String prefix) {
+        ConcurrentNavigableMap<String, Entry> sub = map.subMap(prefix, true, prefix + RANGE_END, false);
+        return sub.values();
+    }
+
+    private static String key(String value, Long brandId) {
+        return value + KEY_SEPARATOR + brandId;
+    }
+
+    private static String chainPrefix(Long chainId, String value) {
+        return chainId + KEY_SEPARATOR + value;
+    }
+
+    private static String[] tokenize(String normalizedName) {
+        return Arrays.stream(normalizedName.split("[^\\p{L}\\p{N}]+"))
+                .filter(t -> !t.isEmpty())
+                .distinct()
+                .toArray(String[]::new);
+    }
+}
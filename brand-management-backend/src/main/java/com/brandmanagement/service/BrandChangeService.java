@@ -0,0 +1,8 @@
+package com.brandmanagement.service;
+
+import com.brandmanagement.dto.BrandChangePageDTO;
+
+public interface BrandChangeService {
+
+    BrandChangePageDTO getChangesSince(String token, int limit);
+}
@@ -1,7 +1,14 @@
 package com.brandmanagement.service;
 
+import com.brandmanagement.dto.BrandBulkDeleteResultDTO;
+import com.brandmanagement.dto.BrandBulkResultDTO;
 import com.brandmanagement.dto.BrandDTO;
+import com.brandmanagement.dto.BrandLookupResultDTO;
+import com.brandmanagement.dto.BrandPageDTO;
 import com.brandmanagement.dto.BrandRequestDTO;
+import com.brandmanagement.dto.BrandSearchResultDTO;
+import com.brandmanagement.dto.CatalogStampDTO;
+import com.brandmanagement.repository.BrandRepositoryCustom;
 
 import java.util.List;
 
@@ -11,11 +18,28 @@ public interface BrandService {
 
     List<BrandDTO> getBrandsByChain(Long chainId);
 
+    BrandPageDTO getActiveBrandPage(Long chainId, Long after, int limit);
+
+    void streamActiveBrands(Long chainId, BrandRepositoryCustom.BrandRowHandler handler);
+
+    /** Throws ResourceNotFoundException unless the chain exists. */
+    void requireChain(Long chainId);
+
+    CatalogStampDTO getCatalogStamp();
+
+    List<BrandSearchResultDTO> searchBrands(String query, Long chainId, int limit);
+
     BrandDTO getBrandById(Long brandId);
 
+    BrandLookupResultDTO lookupBrands(List<Long> brandIds);
+
     BrandDTO createBrand(BrandRequestDTO request);
 
+    BrandBulkResultDTO createBrands(List<BrandRequestDTO> requests);
+
     BrandDTO updateBrand(Long brandId, BrandRequestDTO request);
 
     void deleteBrand(Long brandId);
+
+    BrandBulkDeleteResultDTO deleteBrands(List<Long> brandIds);
 }
@@ -1,10 +1,16 @@
 package com.brandmanagement.service;
 
+import com.brandmanagement.dto.CatalogStampDTO;
 import com.brandmanagement.dto.ChainDTO;
+import com.brandmanagement.dto.ChainSummaryDTO;
 
 import java.util.List;
 
 public interface ChainService {
 
     List<ChainDTO> getAllActiveChains();
+
+    List<ChainSummaryDTO> getChainSummaries();
+
+    CatalogStampDTO getCatalogStamp();
 }
@@ -0,0 +1,81 @@
+package com.brandmanagement.service.impl;
+
+import com.brandmanagement.changes.ChangeToken;
+import com.brandmanagement.dto.BrandChangeDTO;
+import com.brandmanagement.dto.BrandChangePageDTO;
+import com.brandmanagement.dto.BrandDTO;
+import com.brandmanagement.repository.BrandRepository;
+import com.brandmanagement.service.BrandChangeService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class BrandChangeServiceImpl implements BrandChangeService {
+
+    static final int MAX_PAGE_SIZE = 1000;
+
+    private final BrandRepository brandRepository;
+
+    // Changes younger than this are held back, so a transaction that commits late
+    // with an earlier updated_at cannot slip behind a client's token
+    @Value("${app.changes.settle-lag:5s}")
+    private Duration settleLag;
+
+    /* ─── Changes since a token ─────────────────────────────────────── */
+    @Override
+    public BrandChangePageDTO getChangesSince(String token, int limit) {
+        return changesUntil(token, limit, LocalDateTime.now().minus(settleLag));
+    }
+
+    /**
+     * Changes after the token up to the cut-off. Public for ShardedBrandChangeServiceImpl,
+     * which must read every shard with the same cut-off.
+     */
+    public BrandChangePageDTO changesUntil(String token, int limit, LocalDateTime until) {
+        ChangeToken from = ChangeToken.decode(token);
+        int pageSize = Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+
+        List<BrandDTO> rows = brandRepository.findChangesAfter(
+                from.updatedAt(), from.brandId(), until, PageRequest.of(0, pageSize + 1));
+        boolean hasMore = rows.size() > pageSize;
+        List<BrandChangeDTO> changes = (hasMore ? rows.subList(0, pageSize) : rows).stream()
+                .map(BrandChangeServiceImpl::toChange)
+                .toList();
+
+        return BrandChangePageDTO.builder()
+                .changes(changes)
+                .nextToken(changes.isEmpty() ? from.encode() : changes.get(changes.size() - 1).getToken())
+                .hasMore(hasMore)
+                .build();
+    }
+
+    /* ─── Mapper ────────────────────────────────────────────────────── */
+    static BrandChangeDTO toChange(BrandDTO brand) {
+        BrandChangeDTO.Type type;
+        if (!Boolean.TRUE.equals(brand.getIsActive())) {
+            type = BrandChangeDTO.Type.DELETED;
+        } else if (brand.getUpdatedAt().equals(brand.getCreatedAt())) {
+            type = BrandChangeDTO.Type.CREATED;
+        } else {
+            type = BrandChangeDTO.Type.UPDATED;
+        }
+        return toChange(brand, type);
+    }
+
+    static BrandChangeDTO toChange(BrandDTO brand, BrandChangeDTO.Type type) {
+        return BrandChangeDTO.builder()
+                .type(type)
+                .token(ChangeToken.of(brand.getUpdatedAt(), brand.getBrandId()).encode())
+                .brand(brand)
+                .build();
+    }
+}
@@ -1,20 +1,54 @@
 package com.brandmanagement.service.impl;
 
+import com.brandmanagement.coalescing.SingleFlight;
+import com.brandmanagement.config.CacheConfig;
+import com.brandmanagement.datasource.PrimaryRead;
+import com.brandmanagement.dto.BrandBulkDeleteResultDTO;
+import com.brandmanagement.dto.BrandBulkResultDTO;
+import com.brandmanagement.dto.BrandBulkRowResultDTO;
+import com.brandmanagement.dto.BrandChangeDTO;
 import com.brandmanagement.dto.BrandDTO;
+import com.brandmanagement.dto.BrandLookupResultDTO;
+import com.brandmanagement.dto.BrandPageDTO;
 import com.brandmanagement.dto.BrandRequestDTO;
+import com.brandmanagement.dto.BrandSearchResultDTO;
+import com.brandmanagement.dto.CatalogStampDTO;
 import com.brandmanagement.entity.Brand;
+import com.brandmanagement.entity.BrandOutboxEvent;
+import com.brandmanagement.entity.CatalogVersion;
 import com.brandmanagement.entity.Chain;
 import com.brandmanagement.exception.BrandLinkedToZoneException;
 import com.brandmanagement.exception.DuplicateBrandException;
+import com.brandmanagement.exception.LookupTooLargeException;
 import com.brandmanagement.exception.ResourceNotFoundException;
+import com.brandmanagement.outbox.BrandOutboxRelay;
+import com.brandmanagement.repository.BrandOutboxRepository;
 import com.brandmanagement.repository.BrandRepository;
+import com.brandmanagement.repository.BrandRepositoryCustom;
+import com.brandmanagement.repository.CatalogVersionRepository;
 import com.brandmanagement.repository.ChainRepository;
+import com.brandmanagement.repository.ZoneRepository;
+import com.brandmanagement.search.BrandSearchIndex;
 import com.brandmanagement.service.BrandService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.util.List;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
 import java.util.stream.Collectors;
 
 @Service
@@ -22,36 +56,176 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class BrandServiceImpl implements BrandService {
 
+    static final int MAX_PAGE_SIZE = 1000;
+    private static final int MAX_BRAND_NAME_LENGTH = 50;
+    private static final int IN_CLAUSE_CHUNK = 1000;
+    private static final int MAX_SEARCH_RESULTS = 100;
+    static final int MAX_LOOKUP_IDS = 5000;
+
     private final BrandRepository brandRepository;
     private final ChainRepository chainRepository;
+    private final ZoneRepository zoneRepository;
+    private final CatalogVersionRepository catalogVersionRepository;
+    private final CacheManager cacheManager;
+    private final BrandSearchIndex searchIndex;
+    private final SingleFlight singleFlight;
+    private final PlatformTransactionManager transactionManager;
+    private final BrandOutboxRepository outboxRepository;
+    private final BrandOutboxRelay outboxRelay;
 
     /* ─── Get all active brands ─────────────────────────────────────── */
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<BrandDTO> getAllActiveBrands() {
-        return brandRepository.findByIsActiveTrue()
-                .stream()
-                .map(this::toDTO)
-                .collect(Collectors.toList());
+        return singleFlight.readOnly("brands:all", brandRepository::findActiveBrandDTOs);
     }
 
     /* ─── Get brands filtered by chain ─────────────────────────────── */
     @Override
+    @PrimaryRead
+    @Cacheable(cacheNames = CacheConfig.BRANDS_BY_CHAIN, key = "#chainId", sync = true)
     public List<BrandDTO> getBrandsByChain(Long chainId) {
         // Validate chain exists
-        chainRepository.findById(chainId)
-                .orElseThrow(() -> new ResourceNotFoundException("Chain", chainId));
-        return brandRepository.findByChain_ChainIdAndIsActiveTrue(chainId)
-                .stream()
-                .map(this::toDTO)
-                .collect(Collectors.toList());
+        if (!chainRepository.existsById(chainId)) {
+            throw new ResourceNotFoundException("Chain", chainId);
+        }
+        return brandRepository.findActiveBrandDTOsByChainId(chainId);
+    }
+
+    /* ─── Keyset page of active brands ──────────────────────────────── */
+    @Override
+    public BrandPageDTO getActiveBrandPage(Long chainId, Long after, int limit) {
+        if (chainId != null && !chainRepository.existsById(chainId)) {
+            throw new ResourceNotFoundException("Chain", chainId);
+        }
+        int pageSize = Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+
+        // Fetch one extra row to learn whether another page exists
+        List<BrandDTO> rows = brandRepository.findActiveBrandDTOPage(
+                chainId, after, PageRequest.of(0, pageSize + 1));
+        boolean hasMore = rows.size() > pageSize;
+        List<BrandDTO> items = hasMore ? rows.subList(0, pageSize) : rows;
+
+        return BrandPageDTO.builder()
+                .items(items)
+                .nextCursor(hasMore ? items.get(items.size() - 1).getBrandId() : null)
+                .build();
+    }
+
+    /* ─── Stream active brands (export) ─────────────────────────────── */
+    @Override
+    public void streamActiveBrands(Long chainId, BrandRepositoryCustom.BrandRowHandler handler) {
+        if (chainId != null) {
+            requireChain(chainId);
+        }
+        brandRepository.forEachActiveBrand(chainId, handler);
+    }
+
+    @Override
+    public void requireChain(Long chainId) {
+        if (!chainRepository.existsById(chainId)) {
+            throw new ResourceNotFoundException("Chain", chainId);
+        }
+    }
+
+    /* ─── Catalog stamp (ETag / Last-Modified) ──────────────────────── */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CatalogStampDTO getCatalogStamp() {
+        // Every list poll asks for the stamp; concurrent polls share one lookup
+        return singleFlight.readOnly("brands:stamp", this::loadCatalogStamp);
+    }
+
+    private CatalogStampDTO loadCatalogStamp() {
+        // Brand rows embed chain names, so chain changes must also change the stamp
+        Optional<CatalogVersion> brands = catalogVersionRepository.findById(CatalogVersion.BRANDS);
+        ChainRepository.ChainStamp chains = chainRepository.findStamp();
+
+        long brandVersion = brands.map(CatalogVersion::getVersion).orElse(0L);
+        Instant brandsModified = brands.map(v -> toInstant(v.getUpdatedAt())).orElse(Instant.EPOCH);
+        Instant chainsModified = toInstant(chains.getLastModified());
+
+        return CatalogStampDTO.builder()
+                .etag("brands-" + brandVersion + "-" + chains.getCount() + "-" + chainsModified.toEpochMilli())
+                .lastModified(brandsModified.isAfter(chainsModified) ? brandsModified : chainsModified)
+                .build();
+    }
+
+    /* ─── Typeahead search (in-memory index, no DB access) ──────────── */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<BrandSearchResultDTO> searchBrands(String query, Long chainId, int limit) {
+        return searchIndex.search(query, chainId, Math.min(Math.max(limit, 1), MAX_SEARCH_RESULTS));
     }
 
     /* ─── Get brand by ID ───────────────────────────────────────────── */
     @Override
+    @PrimaryRead
+    @Cacheable(cacheNames = CacheConfig.BRAND_BY_ID, key = "#brandId", sync = true)
     public BrandDTO getBrandById(Long brandId) {
-        Brand brand = brandRepository.findByBrandIdAndIsActiveTrue(brandId)
+        return brandRepository.findActiveBrandDTOById(brandId)
                 .orElseThrow(() -> new ResourceNotFoundException("Brand", brandId));
-        return toDTO(brand);
+    }
+
+    /* ─── Batch lookup by IDs ───────────────────────────────────────── */
+    @Override
+    @PrimaryRead
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BrandLookupResultDTO lookupBrands(List<Long> brandIds) {
+        Set<Long> requested = new LinkedHashSet<>(brandIds);
+        requested.remove(null);
+        if (requested.size() > MAX_LOOKUP_IDS) {
+            throw new LookupTooLargeException(requested.size(), MAX_LOOKUP_IDS);
+        }
+
+        // Shares the get-by-ID cache: hits need no connection, misses are loaded and cached
+        Cache byId = cacheManager.getCache(CacheConfig.BRAND_BY_ID);
+        Map<Long, BrandDTO> found = new HashMap<>();
+        List<Long> misses = new ArrayList<>();
+        for (Long id : requested) {
+            BrandDTO cached = byId != null ? byId.get(id, BrandDTO.class) : null;
+            if (cached != null) {
+                found.put(id, cached);
+            } else {
+                misses.add(id);
+            }
+        }
+        if (!misses.isEmpty()) {
+            for (BrandDTO brand : loadActiveBrands(misses)) {
+                found.put(brand.getBrandId(), brand);
+                if (byId != null) {
+                    byId.putIfAbsent(brand.getBrandId(), brand);
+                }
+            }
+        }
+
+        List<BrandDTO> inOrder = new ArrayList<>(found.size());
+        List<Long> missing = new ArrayList<>();
+        for (Long id : requested) {
+            BrandDTO brand = found.get(id);
+            if (brand != null) {
+                inOrder.add(brand);
+            } else {
+                missing.add(id);
+            }
+        }
+        return BrandLookupResultDTO.builder()
+                .found(inOrder)
+                .missing(missing)
+                .build();
+    }
+
+    /** One read-only transaction for all chunks, opened only when something missed the cache. */
+    private List<BrandDTO> loadActiveBrands(List<Long> brandIds) {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setReadOnly(true);
+        return tx.execute(status -> {
+            List<BrandDTO> brands = new ArrayList<>(brandIds.size());
+            for (List<Long> chunk : chunks(brandIds)) {
+                brands.addAll(brandRepository.findActiveBrandDTOsByIds(chunk));
+            }
+            return brands;
+        });
     }
 
     /* ─── Create brand ──────────────────────────────────────────────── */
@@ -62,8 +236,8 @@ public class BrandServiceImpl implements BrandService {
                 .orElseThrow(() -> new ResourceNotFoundException("Chain", request.getChainId()));
 
         // Duplicate check
-        if (brandRepository.existsByBrandNameAndChainIgnoreCase(
-                request.getBrandName(), request.getChainId(), null)) {
+        if (brandRepository.existsActiveByNormalizedNameAndChain(
+                Brand.normalizeName(request.getBrandName()), request.getChainId(), null)) {
             throw new DuplicateBrandException(request.getBrandName(), chain.getChainName());
         }
 
@@ -73,54 +247,366 @@ public class BrandServiceImpl implements BrandService {
                 .isActive(true)
                 .build();
 
-        return toDTO(brandRepository.save(brand));
+        catalogChanged(List.of(), List.of(chain.getChainId()));
+        BrandDTO created = toDTO(brandRepository.save(brand));
+        recordChanges(List.of(created));
+        return created;
+    }
+
+    /* ─── Bulk create brands ────────────────────────────────────────── */
+    @Override
+    @Transactional
+    public BrandBulkResultDTO createBrands(List<BrandRequestDTO> requests) {
+        // Resolve every referenced chain with one query
+        Set<Long> chainIds = requests.stream()
+                .map(BrandRequestDTO::getChainId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<Long, Chain> chains = chainRepository.findAllById(chainIds).stream()
+                .collect(Collectors.toMap(Chain::getChainId, c -> c));
+
+        // Keys of names already active in the database; rows accepted below are added too,
+        // so duplicates inside the batch are caught by the same set
+        Set<String> taken = findTakenNameKeys(requests, chains.keySet());
+
+        List<BrandBulkRowResultDTO> results = new ArrayList<>(requests.size());
+        List<BrandBulkRowResultDTO> accepted = new ArrayList<>();
+        List<BrandRequestDTO> toInsert = new ArrayList<>();
+
+        for (int i = 0; i < requests.size(); i++) {
+            BrandRequestDTO request = requests.get(i);
+            String name = request.getBrandName() == null ? null : request.getBrandName().trim();
+            Long chainId = request.getChainId();
+            BrandBulkRowResultDTO row = BrandBulkRowResultDTO.builder()
+                    .row(i + 1)
+                    .brandName(name)
+                    .chainId(chainId)
+                    .build();
+            results.add(row);
+
+            if (name == null || name.isEmpty()) {
+                reject(row, BrandBulkRowResultDTO.Status.INVALID, "Brand name is required");
+            } else if (name.length() > MAX_BRAND_NAME_LENGTH) {
+                reject(row, BrandBulkRowResultDTO.Status.INVALID, "Brand name must not exceed 50 characters");
+            } else if (chainId == null) {
+                reject(row, BrandBulkRowResultDTO.Status.INVALID, "Chain ID (Company) is required");
+            } else if (!chains.containsKey(chainId)) {
+                reject(row, BrandBulkRowResultDTO.Status.CHAIN_NOT_FOUND, "Chain not found with ID: " + chainId);
+            } else if (!taken.add(nameKey(name, chainId))) {
+                reject(row, BrandBulkRowResultDTO.Status.DUPLICATE, "Brand '" + name
+                        + "' already exists under company '" + chains.get(chainId).getChainName() + "'");
+            } else {
+                accepted.add(row);
+                toInsert.add(BrandRequestDTO.builder().brandName(name).chainId(chainId).isActive(true).build());
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> ids = brandRepository.insertActiveBrands(toInsert, now);
+        List<BrandDTO> created = new ArrayList<>(accepted.size());
+        for (int i = 0; i < accepted.size(); i++) {
+            BrandBulkRowResultDTO row = accepted.get(i);
+            row.setBrandId(ids.get(i));
+            row.setStatus(BrandBulkRowResultDTO.Status.CREATED);
+            created.add(BrandDTO.builder()
+                    .brandId(row.getBrandId())
+                    .brandName(row.getBrandName())
+                    .chainId(row.getChainId())
+                    .chainName(chains.get(row.getChainId()).getChainName())
+                    .isActive(true)
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .version(0L)
+                    .build());
+        }
+        recordChanges(created);
+
+        if (!toInsert.isEmpty()) {
+            catalogChanged(List.of(), toInsert.stream().map(BrandRequestDTO::getChainId).collect(Collectors.toSet()));
+        }
+
+        return BrandBulkResultDTO.builder()
+                .total(requests.size())
+                .created(accepted.size())
+                .failed(requests.size() - accepted.size())
+                .rows(results)
+                .build();
+    }
+
+    private Set<String> findTakenNameKeys(List<BrandRequestDTO> requests, Set<Long> chainIds) {
+        Set<String> taken = new HashSet<>();
+        if (chainIds.isEmpty()) {
+            return taken;
+        }
+        List<String> names = requests.stream()
+                .map(BrandRequestDTO::getBrandName)
+                .filter(Objects::nonNull)
+                .map(Brand::normalizeName)
+                .distinct()
+                .toList();
+        for (List<String> chunk : chunks(names)) {
+            for (Object[] pair : brandRepository.findActiveNameChainPairs(chunk, chainIds)) {
+                taken.add(nameKey((String) pair[0], (Long) pair[1]));
+            }
+        }
+        return taken;
+    }
+
+    private static String nameKey(String brandName, Long chainId) {
+        return chainId + ":" + Brand.normalizeName(brandName);
+    }
+
+    private static void reject(BrandBulkRowResultDTO row, BrandBulkRowResultDTO.Status status, String message) {
+        row.setStatus(status);
+        row.setMessage(message);
     }
 
     /* ─── Update brand ──────────────────────────────────────────────── */
     @Override
     @Transactional
     public BrandDTO updateBrand(Long brandId, BrandRequestDTO request) {
-        Brand brand = brandRepository.findByBrandIdAndIsActiveTrue(brandId)
+        Brand brand = brandRepository.findActiveWithChainById(brandId)
                 .orElseThrow(() -> new ResourceNotFoundException("Brand", brandId));
 
-        Chain chain = chainRepository.findById(request.getChainId())
-                .orElseThrow(() -> new ResourceNotFoundException("Chain", request.getChainId()));
-
-        // Duplicate check — exclude the current brand ID
-        if (brandRepository.existsByBrandNameAndChainIgnoreCase(
-                request.getBrandName(), request.getChainId(), brandId)) {
-            throw new DuplicateBrandException(request.getBrandName(), chain.getChainName());
+        // Optimistic concurrency — reject edits made against a stale copy
+        if (request.getVersion() != null && !request.getVersion().equals(brand.getVersion())) {
+            throw new ObjectOptimisticLockingFailureException(Brand.class, brandId);
         }
 
-        brand.setBrandName(request.getBrandName().trim());
+        String brandName = request.getBrandName().trim();
+        Long oldChainId = brand.getChain().getChainId();
+        boolean chainChanged = !oldChainId.equals(request.getChainId());
+
+        // brand has no foreign key to chain (it is partitioned by chain_id), so check the target chain here
+        Chain chain = chainChanged
+                ? chainRepository.findById(request.getChainId())
+                        .orElseThrow(() -> new ResourceNotFoundException("Chain", request.getChainId()))
+                : brand.getChain();
+
+        catalogChanged(List.of(brandId), List.of(oldChainId, request.getChainId()));
+
+        brand.setBrandName(brandName);
         brand.setChain(chain);
         if (request.getIsActive() != null) {
             brand.setIsActive(request.getIsActive());
         }
 
-        return toDTO(brandRepository.save(brand));
+        // Managed entity: dirty checking issues one versioned UPDATE, no save() needed;
+        // flush now so the DTO carries the new version and updatedAt. No duplicate query first:
+        // the unique (normalized name, chain, active) index rejects a clash with another brand
+        try {
+            brandRepository.flush();
+        } catch (DataIntegrityViolationException ex) {
+            if (isDuplicateName(ex)) {
+                throw new DuplicateBrandException(request.getBrandName(), chain.getChainName());
+            }
+            throw ex;
+        }
+        BrandDTO updated = toDTO(brand);
+        recordChanges(List.of(updated));
+        return updated;
     }
 
     /* ─── Soft delete brand ─────────────────────────────────────────── */
     @Override
     @Transactional
     public void deleteBrand(Long brandId) {
-        Brand brand = brandRepository.findByBrandIdAndIsActiveTrue(brandId)
-                .orElseThrow(() -> new ResourceNotFoundException("Brand", brandId));
-
-        // Check if brand is linked to any active Zone
-        boolean linkedToZone = brand.getZones() != null &&
-                brand.getZones().stream().anyMatch(z -> Boolean.TRUE.equals(z.getIsActive()));
-        if (linkedToZone) {
+        // One conditional UPDATE; only diagnose why when nothing was deactivated
+        LocalDateTime now = LocalDateTime.now();
+        if (brandRepository.deactivateIfNotLinkedToZone(brandId, now) == 0) {
+            Brand brand = brandRepository.findByBrandIdAndIsActiveTrue(brandId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Brand", brandId));
             throw new BrandLinkedToZoneException(brand.getBrandName());
         }
 
-        brand.setIsActive(false);
-        brandRepository.save(brand);
+        Long chainId = chainIdOf(brandId);
+        catalogChanged(List.of(brandId), chainId != null ? List.of(chainId) : List.of());
+        recordChanges(List.of(deletedBrand(brandId, chainId, now)));
+    }
+
+    // A brand never changes chain without its cached copy being evicted, so a cached DTO
+    // saves the lookup; only a cache miss reads the chain ID
+    private Long chainIdOf(Long brandId) {
+        Cache byId = cacheManager.getCache(CacheConfig.BRAND_BY_ID);
+        BrandDTO cached = byId != null ? byId.get(brandId, BrandDTO.class) : null;
+        return cached != null
+                ? cached.getChainId()
+                : brandRepository.findChainIdByBrandId(brandId).orElse(null);
+    }
+
+    private static boolean isDuplicateName(DataIntegrityViolationException ex) {
+        String message = ex.getMostSpecificCause().getMessage();
+        return message != null && message.toLowerCase(Locale.ROOT).contains(Brand.UNIQUE_NAME_CONSTRAINT);
+    }
+
+    /* ─── Batch soft delete brands ──────────────────────────────────── */
+    @Override
+    @Transactional
+    public BrandBulkDeleteResultDTO deleteBrands(List<Long> brandIds) {
+        Set<Long> requested = new LinkedHashSet<>(brandIds);
+        requested.remove(null);
+        List<Long> deleted = new ArrayList<>();
+        List<BrandDTO> deletedBrands = new ArrayList<>();
+        List<Long> linkedToZone = new ArrayList<>();
+        List<Long> notFound = new ArrayList<>();
+        Set<Long> chainIds = new HashSet<>();
+
+        for (List<Long> chunk : chunks(new ArrayList<>(requested))) {
+            Map<Long, Long> activeChainById = new HashMap<>();
+            for (Object[] pair : brandRepository.findActiveBrandChainPairs(chunk)) {
+                activeChainById.put((Long) pair[0], (Long) pair[1]);
+            }
+            Set<Long> blocked = activeChainById.isEmpty()
+                    ? Set.of()
+                    : new HashSet<>(zoneRepository.findBrandIdsWithActiveZones(activeChainById.keySet()));
+
+            List<Long> eligible = new ArrayList<>();
+            for (Long id : chunk) {
+                if (!activeChainById.containsKey(id)) {
+                    notFound.add(id);
+                } else if (blocked.contains(id)) {
+                    linkedToZone.add(id);
+                } else {
+                    eligible.add(id);
+                    chainIds.add(activeChainById.get(id));
+                }
+            }
+            if (!eligible.isEmpty()) {
+                LocalDateTime now = LocalDateTime.now();
+                brandRepository.deactivateAll(eligible, now);
+                deleted.addAll(eligible);
+                eligible.forEach(id -> deletedBrands.add(deletedBrand(id, activeChainById.get(id), now)));
+            }
+        }
+
+        if (!deleted.isEmpty()) {
+            catalogChanged(deleted, chainIds);
+            recordChanges(deletedBrands);
+        }
+
+        return BrandBulkDeleteResultDTO.builder()
+                .deleted(deleted)
+                .linkedToZone(linkedToZone)
+                .notFound(notFound)
+                .build();
+    }
+
+    private static <T> List<List<T>> chunks(List<T> values) {
+        List<List<T>> chunks = new ArrayList<>();
+        for (int from = 0; from < values.size(); from += IN_CLAUSE_CHUNK) {
+            chunks.add(values.subList(from, Math.min(from + IN_CLAUSE_CHUNK, values.size())));
+        }
+        return chunks;
+    }
+
+    /* ─── Catalog version / cache invalidation ──────────────────────── */
+    /**
+     * Records a brand catalog change: bumps the catalog version used for list ETags
+     * and evicts the affected cache entries after commit.
+     */
+    private void catalogChanged(Collection<Long> brandIds, Collection<Long> chainIds) {
+        LocalDateTime now = LocalDateTime.now();
+        if (catalogVersionRepository.bump(CatalogVersion.BRANDS, now) == 0) {
+            catalogVersionRepository.save(CatalogVersion.builder()
+                    .catalogName(CatalogVersion.BRANDS)
+                    .version(1L)
+                    .updatedAt(now)
+                    .build());
+        }
+        afterCommit(() -> evict(brandIds, chainIds));
+    }
+
+    /**
+     * Runs the action once the current transaction commits, so concurrent readers
+     * cannot re-cache or re-index pre-commit state. Runs immediately outside a transaction.
+     */
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * Appends the written brands to the outbox in the current transaction. After commit,
+     * re-indexes them for search (un-indexing deactivated ones) and wakes the outbox relay.
+     * Change-stream subscribers get them from BrandChangeFeedPoller, on every instance.
+     */
+    private void recordChanges(List<BrandDTO> written) {
+        List<BrandChangeDTO> changes = written.stream().map(BrandChangeServiceImpl::toChange).toList();
+        outboxRepository.appendAll(changes.stream().map(BrandServiceImpl::toOutboxEvent).toList());
+        afterCommit(() -> {
+            for (BrandDTO brand : written) {
+                if (Boolean.TRUE.equals(brand.getIsActive())) {
+                    searchIndex.upsert(toSearchResult(brand));
+                } else {
+                    searchIndex.remove(brand.getBrandId());
+                }
+            }
+            if (!changes.isEmpty()) {
+                outboxRelay.wakeUp();
+            }
+        });
+    }
+
+    private void evict(Collection<Long> brandIds, Collection<Long> chainIds) {
+        Cache byId = cacheManager.getCache(CacheConfig.BRAND_BY_ID);
+        if (byId != null) {
+            brandIds.forEach(byId::evict);
+        }
+        Cache byChain = cacheManager.getCache(CacheConfig.BRANDS_BY_CHAIN);
+        if (byChain != null) {
+            chainIds.forEach(byChain::evict);
+        }
+        Cache summary = cacheManager.getCache(CacheConfig.CHAIN_SUMMARY);
+        if (summary != null) {
+            summary.clear();
+        }
+    }
+
+    private static Instant toInstant(LocalDateTime time) {
+        return time == null ? Instant.EPOCH : time.atZone(ZoneId.systemDefault()).toInstant();
     }
 
     /* ─── Mapper ─────────────────────────────────────────────────────── */
-    private BrandDTO toDTO(Brand brand) {
+    private static BrandDTO deletedBrand(Long brandId, Long chainId, LocalDateTime deletedAt) {
+        return BrandDTO.builder()
+                .brandId(brandId)
+                .chainId(chainId)
+                .isActive(false)
+                .updatedAt(deletedAt)
+                .build();
+    }
+
+    private static BrandOutboxEvent toOutboxEvent(BrandChangeDTO change) {
+        BrandDTO brand = change.getBrand();
+        return BrandOutboxEvent.builder()
+                .eventType(BrandOutboxEvent.Type.valueOf(change.getType().name()))
+                .brandId(brand.getBrandId())
+                .chainId(brand.getChainId())
+                .brandName(brand.getBrandName())
+                .isActive(Boolean.TRUE.equals(brand.getIsActive()))
+                .brandVersion(brand.getVersion())
+                .occurredAt(brand.getUpdatedAt() != null ? brand.getUpdatedAt() : LocalDateTime.now())
+                .build();
+    }
+
+    private static BrandSearchResultDTO toSearchResult(BrandDTO brand) {
+        return BrandSearchResultDTO.builder()
+                .brandId(brand.getBrandId())
+                .brandName(brand.getBrandName())
+                .chainId(brand.getChainId())
+                .chainName(brand.getChainName())
+                .build();
+    }
+
+    static BrandDTO toDTO(Brand brand) {
         return BrandDTO.builder()
                 .brandId(brand.getBrandId())
                 .brandName(brand.getBrandName())
@@ -129,6 +615,7 @@ public class BrandServiceImpl implements BrandService {
                 .isActive(brand.getIsActive())
                 .createdAt(brand.getCreatedAt())
                 .updatedAt(brand.getUpdatedAt())
+                .version(brand.getVersion())
                 .build();
     }
 }
@@ -1,13 +1,22 @@
 package com.brandmanagement.service.impl;
 
+import com.brandmanagement.coalescing.SingleFlight;
+import com.brandmanagement.config.CacheConfig;
+import com.brandmanagement.datasource.PrimaryRead;
+import com.brandmanagement.dto.CatalogStampDTO;
 import com.brandmanagement.dto.ChainDTO;
+import com.brandmanagement.dto.ChainSummaryDTO;
 import com.brandmanagement.entity.Chain;
 import com.brandmanagement.repository.ChainRepository;
 import com.brandmanagement.service.ChainService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.time.ZoneId;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -17,8 +26,11 @@ import java.util.stream.Collectors;
 public class ChainServiceImpl implements ChainService {
 
     private final ChainRepository chainRepository;
+    private final SingleFlight singleFlight;
 
     @Override
+    @PrimaryRead
+    @Cacheable(cacheNames = CacheConfig.CHAINS, key = "'active'", sync = true)
     public List<ChainDTO> getAllActiveChains() {
         return chainRepository.findByIsActiveTrue()
                 .stream()
@@ -26,6 +38,30 @@ public class ChainServiceImpl implements ChainService {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @PrimaryRead
+    @Cacheable(cacheNames = CacheConfig.CHAIN_SUMMARY, key = "'all'", sync = true)
+    public List<ChainSummaryDTO> getChainSummaries() {
+        return chainRepository.findChainSummaries();
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CatalogStampDTO getCatalogStamp() {
+        return singleFlight.readOnly("chains:stamp", this::loadCatalogStamp);
+    }
+
+    private CatalogStampDTO loadCatalogStamp() {
+        ChainRepository.ChainStamp stamp = chainRepository.findStamp();
+        Instant lastModified = stamp.getLastModified() == null
+                ? Instant.EPOCH
+                : stamp.getLastModified().atZone(ZoneId.systemDefault()).toInstant();
+        return CatalogStampDTO.builder()
+                .etag("chains-" + stamp.getCount() + "-" + lastModified.toEpochMilli())
+                .lastModified(lastModified)
+                .build();
+    }
+
     private ChainDTO toDTO(Chain chain) {
         return ChainDTO.builder()
                 .chainId(chain.getChainId())
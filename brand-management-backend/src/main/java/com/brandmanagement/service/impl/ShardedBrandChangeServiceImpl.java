@@ -0,0 +1,64 @@
+package com.brandmanagement.service.impl;
+
+import com.brandmanagement.dto.BrandChangeDTO;
+import com.brandmanagement.dto.BrandChangePageDTO;
+import com.brandmanagement.service.BrandChangeService;
+import com.brandmanagement.sharding.ShardRouter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Change feed over chain-sharded databases: every shard is read with the same cut-off
+ * and the pages are merged in (updatedAt, brandId) order, so one token covers all shards.
+ */
+@Service
+@Primary
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.shards", name = "urls")
+public class ShardedBrandChangeServiceImpl implements BrandChangeService {
+
+    private static final Comparator<BrandChangeDTO> FEED_ORDER = Comparator
+            .comparing((BrandChangeDTO change) -> change.getBrand().getUpdatedAt())
+            .thenComparing(change -> change.getBrand().getBrandId());
+
+    private final BrandChangeServiceImpl brandChangeService;
+    private final ShardRouter shardRouter;
+
+    @Value("${app.changes.settle-lag:5s}")
+    private Duration settleLag;
+
+    /* ─── Changes since a token ─────────────────────────────────────── */
+    @Override
+    public BrandChangePageDTO getChangesSince(String token, int limit) {
+        return mergedUntil(token, limit, LocalDateTime.now().minus(settleLag));
+    }
+
+    private BrandChangePageDTO mergedUntil(String token, int limit, LocalDateTime until) {
+        int pageSize = Math.min(Math.max(limit, 1), BrandChangeServiceImpl.MAX_PAGE_SIZE);
+        List<BrandChangePageDTO> pages = shardRouter.onEach(
+                shard -> brandChangeService.changesUntil(token, pageSize, until));
+
+        // Each shard returned its first pageSize changes, so the merged first pageSize are exact
+        List<BrandChangeDTO> merged = pages.stream()
+                .flatMap(page -> page.getChanges().stream())
+                .sorted(FEED_ORDER)
+                .toList();
+        boolean hasMore = merged.size() > pageSize || pages.stream().anyMatch(BrandChangePageDTO::isHasMore);
+        List<BrandChangeDTO> changes = merged.size() > pageSize ? merged.subList(0, pageSize) : merged;
+
+        return BrandChangePageDTO.builder()
+                .changes(changes)
+                // With no changes every shard echoes the caller's position
+                .nextToken(changes.isEmpty() ? pages.get(0).getNextToken() : changes.get(changes.size() - 1).getToken())
+                .hasMore(hasMore)
+                .build();
+    }
+}
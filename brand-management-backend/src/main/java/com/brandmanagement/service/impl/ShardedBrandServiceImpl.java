@@ -0,0 +1,275 @@
+package com.brandmanagement.service.impl;
+
+import com.brandmanagement.dto.BrandBulkDeleteResultDTO;
+import com.brandmanagement.dto.BrandBulkResultDTO;
+import com.brandmanagement.dto.BrandBulkRowResultDTO;
+import com.brandmanagement.dto.BrandDTO;
+import com.brandmanagement.dto.BrandLookupResultDTO;
+import com.brandmanagement.dto.BrandPageDTO;
+import com.brandmanagement.dto.BrandRequestDTO;
+import com.brandmanagement.dto.BrandSearchResultDTO;
+import com.brandmanagement.dto.CatalogStampDTO;
+import com.brandmanagement.exception.CrossShardMoveException;
+import com.brandmanagement.exception.LookupTooLargeException;
+import com.brandmanagement.exception.ResourceNotFoundException;
+import com.brandmanagement.repository.BrandRepositoryCustom;
+import com.brandmanagement.service.BrandService;
+import com.brandmanagement.sharding.ShardRouter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * BrandService over chain-sharded databases (app.shards.urls). Each call goes to the shard
+ * that owns the chain or brand and runs through BrandServiceImpl there, in that shard's own
+ * transaction. Whole-catalog reads ask every shard in parallel and merge the results; keyset
+ * pages and exports walk the shards in order, since shard k holds the k-th brand ID range.
+ *
+ * A brand cannot move to a chain on another shard. Bulk writes are atomic per shard, not
+ * across shards.
+ */
+@Service
+@Primary
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.shards", name = "urls")
+public class ShardedBrandServiceImpl implements BrandService {
+
+    private final BrandServiceImpl brandService;
+    private final ShardRouter shardRouter;
+
+    /* ─── Get all active brands ─────────────────────────────────────── */
+    @Override
+    public List<BrandDTO> getAllActiveBrands() {
+        List<BrandDTO> all = new ArrayList<>();
+        shardRouter.onEach(shard -> brandService.getAllActiveBrands()).forEach(all::addAll);
+        return all;
+    }
+
+    /* ─── Get brands filtered by chain ─────────────────────────────── */
+    @Override
+    public List<BrandDTO> getBrandsByChain(Long chainId) {
+        return shardRouter.on(shardRouter.shardOfChain(chainId), () -> brandService.getBrandsByChain(chainId));
+    }
+
+    /* ─── Keyset page of active brands ──────────────────────────────── */
+    @Override
+    public BrandPageDTO getActiveBrandPage(Long chainId, Long after, int limit) {
+        if (chainId != null) {
+            return shardRouter.on(shardRouter.shardOfChain(chainId),
+                    () -> brandService.getActiveBrandPage(chainId, after, limit));
+        }
+        int pageSize = Math.min(Math.max(limit, 1), BrandServiceImpl.MAX_PAGE_SIZE);
+        int first = after == null ? 0 : shardRouter.shardOfBrand(after);
+        List<BrandDTO> items = new ArrayList<>(pageSize);
+        boolean hasMore = false;
+
+        // Brand IDs ascend with the shard, so a page continues on the next shard
+        for (int shard = Math.max(first, 0); first >= 0 && shard < shardRouter.count(); shard++) {
+            if (items.size() == pageSize) {
+                // Page is full; there is another one only if this later shard has rows
+                hasMore = !shardRouter.on(shard, () -> brandService.getActiveBrandPage(null, null, 1))
+                        .getItems().isEmpty();
+                if (hasMore) break;
+                continue;
+            }
+            Long from = shard == first ? after : null;
+            int remaining = pageSize - items.size();
+            BrandPageDTO page = shardRouter.on(shard, () -> brandService.getActiveBrandPage(null, from, remaining));
+            items.addAll(page.getItems());
+            if (page.getNextCursor() != null) {
+                hasMore = true;
+                break;
+            }
+        }
+
+        return BrandPageDTO.builder()
+                .items(items)
+                .nextCursor(hasMore ? items.get(items.size() - 1).getBrandId() : null)
+                .build();
+    }
+
+    /* ─── Stream active brands (export) ─────────────────────────────── */
+    @Override
+    public void streamActiveBrands(Long chainId, BrandRepositoryCustom.BrandRowHandler handler) {
+        if (chainId != null) {
+            shardRouter.run(shardRouter.shardOfChain(chainId), () -> brandService.streamActiveBrands(chainId, handler));
+            return;
+        }
+        // One shard after the other keeps the export in brand ID order
+        for (int shard = 0; shard < shardRouter.count(); shard++) {
+            shardRouter.run(shard, () -> brandService.streamActiveBrands(null, handler));
+        }
+    }
+
+    @Override
+    public void requireChain(Long chainId) {
+        shardRouter.run(shardRouter.shardOfChain(chainId), () -> brandService.requireChain(chainId));
+    }
+
+    /* ─── Catalog stamp (ETag / Last-Modified) ──────────────────────── */
+    @Override
+    public CatalogStampDTO getCatalogStamp() {
+        // Each shard versions its own brands; the catalog changed if any shard's stamp did
+        List<CatalogStampDTO> stamps = shardRouter.onEach(shard -> brandService.getCatalogStamp());
+        return CatalogStampDTO.builder()
+                .etag(stamps.stream().map(CatalogStampDTO::getEtag).collect(Collectors.joining(".")))
+                .lastModified(stamps.stream().map(CatalogStampDTO::getLastModified)
+                        .max(Comparator.naturalOrder()).orElse(Instant.EPOCH))
+                .build();
+    }
+
+    /* ─── Typeahead search (in-memory index, no DB access) ──────────── */
+    @Override
+    public List<BrandSearchResultDTO> searchBrands(String query, Long chainId, int limit) {
+        return brandService.searchBrands(query, chainId, limit);
+    }
+
+    /* ─── Get brand by ID ───────────────────────────────────────────── */
+    @Override
+    public BrandDTO getBrandById(Long brandId) {
+        return shardRouter.on(shardOfExistingBrand(brandId), () -> brandService.getBrandById(brandId));
+    }
+
+    /* ─── Batch lookup by IDs ───────────────────────────────────────── */
+    @Override
+    public BrandLookupResultDTO lookupBrands(List<Long> brandIds) {
+        Set<Long> requested = new LinkedHashSet<>(brandIds);
+        requested.remove(null);
+        if (requested.size() > BrandServiceImpl.MAX_LOOKUP_IDS) {
+            throw new LookupTooLargeException(requested.size(), BrandServiceImpl.MAX_LOOKUP_IDS);
+        }
+
+        Map<Integer, List<Long>> idsByShard = groupByShard(requested);
+        Map<Long, BrandDTO> found = new HashMap<>();
+        shardRouter.onEach(shard -> idsByShard.containsKey(shard)
+                        ? brandService.lookupBrands(idsByShard.get(shard)).getFound()
+                        : List.<BrandDTO>of())
+                .forEach(brands -> brands.forEach(brand -> found.put(brand.getBrandId(), brand)));
+
+        List<BrandDTO> inOrder = new ArrayList<>(found.size());
+        List<Long> missing = new ArrayList<>();
+        for (Long id : requested) {
+            BrandDTO brand = found.get(id);
+            if (brand != null) {
+                inOrder.add(brand);
+            } else {
+                missing.add(id);
+            }
+        }
+        return BrandLookupResultDTO.builder()
+                .found(inOrder)
+                .missing(missing)
+                .build();
+    }
+
+    /* ─── Create brand ──────────────────────────────────────────────── */
+    @Override
+    public BrandDTO createBrand(BrandRequestDTO request) {
+        return shardRouter.on(shardRouter.shardOfChain(request.getChainId()), () -> brandService.createBrand(request));
+    }
+
+    /* ─── Bulk create brands ────────────────────────────────────────── */
+    @Override
+    public BrandBulkResultDTO createBrands(List<BrandRequestDTO> requests) {
+        // Row indexes per owning shard, in input order
+        Map<Integer, List<Integer>> rowsByShard = new HashMap<>();
+        for (int i = 0; i < requests.size(); i++) {
+            rowsByShard.computeIfAbsent(shardRouter.shardOfChain(requests.get(i).getChainId()), s -> new ArrayList<>())
+                    .add(i);
+        }
+
+        List<BrandBulkResultDTO> results = shardRouter.onEach(shard -> {
+            List<Integer> rows = rowsByShard.get(shard);
+            return rows == null ? null : brandService.createBrands(rows.stream().map(requests::get).toList());
+        });
+
+        BrandBulkRowResultDTO[] merged = new BrandBulkRowResultDTO[requests.size()];
+        int created = 0;
+        for (int shard = 0; shard < results.size(); shard++) {
+            BrandBulkResultDTO result = results.get(shard);
+            if (result == null) continue;
+            List<Integer> rows = rowsByShard.get(shard);
+            for (int j = 0; j < rows.size(); j++) {
+                BrandBulkRowResultDTO row = result.getRows().get(j);
+                // Renumber from the shard's sub-batch back to the caller's row number
+                row.setRow(rows.get(j) + 1);
+                merged[rows.get(j)] = row;
+            }
+            created += result.getCreated();
+        }
+
+        return BrandBulkResultDTO.builder()
+                .total(requests.size())
+                .created(created)
+                .failed(requests.size() - created)
+                .rows(Arrays.asList(merged))
+                .build();
+    }
+
+    /* ─── Update brand ──────────────────────────────────────────────── */
+    @Override
+    public BrandDTO updateBrand(Long brandId, BrandRequestDTO request) {
+        int shard = shardOfExistingBrand(brandId);
+        if (request.getChainId() != null && shardRouter.shardOfChain(request.getChainId()) != shard) {
+            // 404 for an unknown brand takes precedence over the move being impossible
+            shardRouter.on(shard, () -> brandService.getBrandById(brandId));
+            throw new CrossShardMoveException(brandId, request.getChainId());
+        }
+        return shardRouter.on(shard, () -> brandService.updateBrand(brandId, request));
+    }
+
+    /* ─── Soft delete brand ─────────────────────────────────────────── */
+    @Override
+    public void deleteBrand(Long brandId) {
+        shardRouter.run(shardOfExistingBrand(brandId), () -> brandService.deleteBrand(brandId));
+    }
+
+    /* ─── Batch soft delete brands ──────────────────────────────────── */
+    @Override
+    public BrandBulkDeleteResultDTO deleteBrands(List<Long> brandIds) {
+        Set<Long> requested = new LinkedHashSet<>(brandIds);
+        requested.remove(null);
+        Map<Integer, List<Long>> idsByShard = groupByShard(requested);
+
+        List<Long> deleted = new ArrayList<>();
+        List<Long> linkedToZone = new ArrayList<>();
+        List<Long> notFound = new ArrayList<>(idsByShard.getOrDefault(-1, List.of()));
+        for (BrandBulkDeleteResultDTO result : shardRouter.onEach(shard -> idsByShard.containsKey(shard)
+                ? brandService.deleteBrands(idsByShard.get(shard))
+                : null)) {
+            if (result == null) continue;
+            deleted.addAll(result.getDeleted());
+            linkedToZone.addAll(result.getLinkedToZone());
+            notFound.addAll(result.getNotFound());
+        }
+
+        return BrandBulkDeleteResultDTO.builder()
+                .deleted(deleted)
+                .linkedToZone(linkedToZone)
+                .notFound(notFound)
+                .build();
+    }
+
+    /* ─── Helper ─────────────────────────────────────────────────────── */
+    private int shardOfExistingBrand(Long brandId) {
+        int shard = shardRouter.shardOfBrand(brandId);
+        if (shard < 0) {
+            throw new ResourceNotFoundException("Brand", brandId);
+        }
+        return shard;
+    }
+
+    // IDs outside every shard's range are grouped under -1
+    private Map<Integer, List<Long>> groupByShard(Collection<Long> brandIds) {
+        Map<Integer, List<Long>> idsByShard = new HashMap<>();
+        for (Long id : brandIds) {
+            idsByShard.computeIfAbsent(shardRouter.shardOfBrand(id), s -> new ArrayList<>()).add(id);
+        }
+        return idsByShard;
+    }
+}
@@ -0,0 +1,74 @@
+package com.brandmanagement.service.impl;
+
+import com.brandmanagement.config.CacheConfig;
+import com.brandmanagement.dto.CatalogStampDTO;
+import com.brandmanagement.dto.ChainDTO;
+import com.brandmanagement.dto.ChainSummaryDTO;
+import com.brandmanagement.repository.ChainRepository;
+import com.brandmanagement.service.ChainService;
+import com.brandmanagement.sharding.ShardRouter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ChainService over chain-sharded databases. Chains are reference data present on every
+ * shard, so they are read from shard 0. Summaries add up the brand and zone counts of
+ * every shard.
+ */
+@Service
+@Primary
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.shards", name = "urls")
+public class ShardedChainServiceImpl implements ChainService {
+
+    private final ChainServiceImpl chainService;
+    private final ChainRepository chainRepository;
+    private final ShardRouter shardRouter;
+    private final PlatformTransactionManager transactionManager;
+
+    @Override
+    public List<ChainDTO> getAllActiveChains() {
+        return chainService.getAllActiveChains();
+    }
+
+    @Override
+    @Cacheable(cacheNames = CacheConfig.CHAIN_SUMMARY, key = "'all'", sync = true)
+    public List<ChainSummaryDTO> getChainSummaries() {
+        // Straight to the repository: ChainServiceImpl caches under the same key
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setReadOnly(true);
+        List<List<ChainSummaryDTO>> perShard = shardRouter.onEach(
+                shard -> tx.execute(status -> chainRepository.findChainSummaries()));
+
+        // Every shard lists every chain, in the same order
+        Map<Long, ChainSummaryDTO> totals = new LinkedHashMap<>();
+        for (List<ChainSummaryDTO> summaries : perShard) {
+            for (ChainSummaryDTO summary : summaries) {
+                ChainSummaryDTO total = totals.putIfAbsent(summary.getChainId(), summary);
+                if (total == null) continue;
+                total.setActiveBrands(total.getActiveBrands() + summary.getActiveBrands());
+                total.setInactiveBrands(total.getInactiveBrands() + summary.getInactiveBrands());
+                total.setActiveZones(total.getActiveZones() + summary.getActiveZones());
+                if (summary.getLastModified() != null && (total.getLastModified() == null
+                        || summary.getLastModified().isAfter(total.getLastModified()))) {
+                    total.setLastModified(summary.getLastModified());
+                }
+            }
+        }
+        return List.copyOf(totals.values());
+    }
+
+    @Override
+    public CatalogStampDTO getCatalogStamp() {
+        return chainService.getCatalogStamp();
+    }
+}
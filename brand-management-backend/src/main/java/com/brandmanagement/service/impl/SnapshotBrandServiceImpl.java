@@ -0,0 +1,128 @@
+package com.brandmanagement.service.impl;
+
+import com.brandmanagement.dto.BrandBulkDeleteResultDTO;
+import com.brandmanagement.dto.BrandBulkResultDTO;
+import com.brandmanagement.dto.BrandDTO;
+import com.brandmanagement.dto.BrandLookupResultDTO;
+import com.brandmanagement.dto.BrandPageDTO;
+import com.brandmanagement.dto.BrandRequestDTO;
+import com.brandmanagement.dto.BrandSearchResultDTO;
+import com.brandmanagement.dto.CatalogStampDTO;
+import com.brandmanagement.exception.ResourceNotFoundException;
+import com.brandmanagement.repository.BrandRepositoryCustom;
+import com.brandmanagement.service.BrandService;
+import com.brandmanagement.snapshot.CatalogSnapshot;
+import com.brandmanagement.snapshot.CatalogSnapshotHolder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * BrandService of a read-only instance serving the catalog snapshot (app.snapshot.serve).
+ * The brand list, brands by chain, brand by ID and their stamp come from the mapped snapshot,
+ * so they need no database and reflect the catalog as of the snapshot; search uses the index
+ * built from it. Everything else, and all reads until a snapshot is published, goes to
+ * BrandServiceImpl and the database. Not combined with app.shards.urls.
+ */
+@Service
+@Primary
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.snapshot", name = "serve", havingValue = "true")
+public class SnapshotBrandServiceImpl implements BrandService {
+
+    private final BrandServiceImpl brandService;
+    private final CatalogSnapshotHolder snapshots;
+
+    /* ─── Served from the snapshot ──────────────────────────────────── */
+    @Override
+    public List<BrandDTO> getAllActiveBrands() {
+        CatalogSnapshot snapshot = snapshots.current();
+        return snapshot == null ? brandService.getAllActiveBrands() : snapshot.activeBrands();
+    }
+
+    @Override
+    public List<BrandDTO> getBrandsByChain(Long chainId) {
+        CatalogSnapshot snapshot = snapshots.current();
+        if (snapshot == null) {
+            return brandService.getBrandsByChain(chainId);
+        }
+        List<BrandDTO> brands = snapshot.brandsByChain(chainId);
+        if (brands == null) {
+            throw new ResourceNotFoundException("Chain", chainId);
+        }
+        return brands;
+    }
+
+    @Override
+    public BrandDTO getBrandById(Long brandId) {
+        CatalogSnapshot snapshot = snapshots.current();
+        if (snapshot == null) {
+            return brandService.getBrandById(brandId);
+        }
+        BrandDTO brand = snapshot.brandById(brandId);
+        if (brand == null) {
+            throw new ResourceNotFoundException("Brand", brandId);
+        }
+        return brand;
+    }
+
+    @Override
+    public CatalogStampDTO getCatalogStamp() {
+        CatalogSnapshot snapshot = snapshots.current();
+        return snapshot == null ? brandService.getCatalogStamp() : snapshot.brandStamp();
+    }
+
+    @Override
+    public List<BrandSearchResultDTO> searchBrands(String query, Long chainId, int limit) {
+        return brandService.searchBrands(query, chainId, limit);
+    }
+
+    /* ─── Database ──────────────────────────────────────────────────── */
+    @Override
+    public BrandPageDTO getActiveBrandPage(Long chainId, Long after, int limit) {
+        return brandService.getActiveBrandPage(chainId, after, limit);
+    }
+
+    @Override
+    public void streamActiveBrands(Long chainId, BrandRepositoryCustom.BrandRowHandler handler) {
+        brandService.streamActiveBrands(chainId, handler);
+    }
+
+    @Override
+    public void requireChain(Long chainId) {
+        brandService.requireChain(chainId);
+    }
+
+    @Override
+    public BrandLookupResultDTO lookupBrands(List<Long> brandIds) {
+        return brandService.lookupBrands(brandIds);
+    }
+
+    @Override
+    public BrandDTO createBrand(BrandRequestDTO request) {
+        return brandService.createBrand(request);
+    }
+
+    @Override
+    public BrandBulkResultDTO createBrands(List<BrandRequestDTO> requests) {
+        return brandService.createBrands(requests);
+    }
+
+    @Override
+    public BrandDTO updateBrand(Long brandId, BrandRequestDTO request) {
+        return brandService.updateBrand(brandId, request);
+    }
+
+    @Override
+    public void deleteBrand(Long brandId) {
+        brandService.deleteBrand(brandId);
+    }
+
+    @Override
+    public BrandBulkDeleteResultDTO deleteBrands(List<Long> brandIds) {
+        return brandService.deleteBrands(brandIds);
+    }
+}
@@ -0,0 +1,46 @@
+package com.brandmanagement.service.impl;
+
+import com.brandmanagement.dto.CatalogStampDTO;
+import com.brandmanagement.dto.ChainDTO;
+import com.brandmanagement.dto.ChainSummaryDTO;
+import com.brandmanagement.service.ChainService;
+import com.brandmanagement.snapshot.CatalogSnapshot;
+import com.brandmanagement.snapshot.CatalogSnapshotHolder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * ChainService of a read-only instance serving the catalog snapshot (app.snapshot.serve):
+ * active chains and their stamp come from the snapshot once one is loaded. Summaries still
+ * need the database.
+ */
+@Service
+@Primary
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.snapshot", name = "serve", havingValue = "true")
+public class SnapshotChainServiceImpl implements ChainService {
+
+    private final ChainServiceImpl chainService;
+    private final CatalogSnapshotHolder snapshots;
+
+    @Override
+    public List<ChainDTO> getAllActiveChains() {
+        CatalogSnapshot snapshot = snapshots.current();
+        return snapshot == null ? chainService.getAllActiveChains() : snapshot.activeChains();
+    }
+
+    @Override
+    public List<ChainSummaryDTO> getChainSummaries() {
+        return chainService.getChainSummaries();
+    }
+
+    @Override
+    public CatalogStampDTO getCatalogStamp() {
+        CatalogSnapshot snapshot = snapshots.current();
+        return snapshot == null ? chainService.getCatalogStamp() : snapshot.chainStamp();
+    }
+}
@@ -0,0 +1,68 @@
+package com.brandmanagement.sharding;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * "shard-local" profile only: prepares the embedded H2 shards the way migration V5 prepares
+ * MySQL shards. Hibernate creates the schema on shard 0, and it is copied to the other shards.
+ * Then each shard gets its brand ID range, loads the seed data, and keeps only the seed brands
+ * of the chains it owns.
+ */
+@Slf4j
+@Component
+@Profile("shard-local")
+@RequiredArgsConstructor
+public class LocalShardSchema {
+
+    private static final String SEED_SCRIPT = "db/migration/V2__seed_reference_data.sql";
+
+    private final DataSource dataSource;
+    private final ShardRouter shardRouter;
+
+    @EventListener(ContextRefreshedEvent.class)
+    public void prepareShards() throws SQLException {
+        List<String> schema = new ArrayList<>();
+        try (Connection con = dataSource.getConnection();
+             Statement stmt = con.createStatement();
+             ResultSet rs = stmt.executeQuery("SCRIPT NODATA DROP")) {
+            while (rs.next()) {
+                schema.add(rs.getString(1));
+            }
+        }
+        for (int shard = 0; shard < shardRouter.count(); shard++) {
+            long firstBrandId = ((long) shard << ShardRouter.BRAND_ID_SHARD_SHIFT) + 1;
+            int index = shard;
+            shardRouter.run(shard, () -> {
+                try (Connection con = dataSource.getConnection();
+                     Statement stmt = con.createStatement()) {
+                    if (index > 0) {
+                        for (String sql : schema) {
+                            stmt.execute(sql);
+                        }
+                    }
+                    stmt.execute("ALTER TABLE brand ALTER COLUMN brand_id RESTART WITH " + firstBrandId);
+                    new ResourceDatabasePopulator(new ClassPathResource(SEED_SCRIPT)).populate(con);
+                    stmt.execute("DELETE FROM brand WHERE MOD(chain_id, " + shardRouter.count() + ") <> " + index);
+                } catch (SQLException e) {
+                    throw new IllegalStateException("Could not prepare local shard " + index, e);
+                }
+            });
+        }
+        log.info("Prepared {} local shard(s) ({} schema statements)", shardRouter.count(), schema.size());
+    }
+}
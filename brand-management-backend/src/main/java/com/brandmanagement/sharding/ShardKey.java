@@ -0,0 +1,33 @@
+package com.brandmanagement.sharding;
+
+/**
+ * The shard the current thread's database work goes to, read by ShardRoutingDataSource
+ * when a connection is fetched. It must be set before a transaction starts, because the
+ * transaction keeps its connection. With no key set, the default shard (0) is used.
+ */
+public final class ShardKey {
+
+    private static final ThreadLocal<Integer> CURRENT = new ThreadLocal<>();
+
+    private ShardKey() {
+    }
+
+    public static Integer current() {
+        return CURRENT.get();
+    }
+
+    /** Routes the current thread to the shard and returns the previous key, for {@link #restore}. */
+    public static Integer set(int shard) {
+        Integer previous = CURRENT.get();
+        CURRENT.set(shard);
+        return previous;
+    }
+
+    public static void restore(Integer previous) {
+        if (previous != null) {
+            CURRENT.set(previous);
+        } else {
+            CURRENT.remove();
+        }
+    }
+}
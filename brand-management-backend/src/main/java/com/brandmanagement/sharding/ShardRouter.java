@@ -0,0 +1,116 @@
+package com.brandmanagement.sharding;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
+/**
+ * Maps chains and brands to shards and runs work on a given shard.
+ *
+ * A chain lives on shard chain_id MOD count, together with its brands and their zones.
+ * Brand IDs of shard k start at k << {@value #BRAND_ID_SHARD_SHIFT} (migration V5), so the
+ * shard of a brand follows from its ID. Chains and the other reference data are present
+ * on every shard; shard 0 answers reads that do not involve brands.
+ *
+ * Without app.shards.urls there is one shard and work runs unchanged on the caller's thread.
+ */
+@Component
+public class ShardRouter implements DisposableBean {
+
+    public static final int BRAND_ID_SHARD_SHIFT = 40;
+
+    private final int count;
+    private final ExecutorService fanOut = Executors.newVirtualThreadPerTaskExecutor();
+
+    public ShardRouter(@Value("${app.shards.urls:}") List<String> shardUrls) {
+        // spring.datasource is shard 0; app.shards.urls lists shards 1..n
+        this.count = 1 + (int) shardUrls.stream().filter(url -> !url.isBlank()).count();
+    }
+
+    public int count() {
+        return count;
+    }
+
+    public boolean isSharded() {
+        return count > 1;
+    }
+
+    /** Shard that owns the chain; a missing chain ID maps to shard 0, which rejects it like any other. */
+    public int shardOfChain(Long chainId) {
+        return chainId == null ? 0 : (int) Math.floorMod(chainId, (long) count);
+    }
+
+    /** Shard that holds the brand, or -1 if no shard can hold the ID (so the brand cannot exist). */
+    public int shardOfBrand(Long brandId) {
+        if (brandId == null || brandId <= 0) {
+            return -1;
+        }
+        long shard = brandId >>> BRAND_ID_SHARD_SHIFT;
+        return shard < count ? (int) shard : -1;
+    }
+
+    /** Runs the work with its database access routed to the shard. */
+    public <T> T on(int shard, Supplier<T> work) {
+        if (!isSharded()) {
+            return work.get();
+        }
+        Integer previous = ShardKey.set(shard);
+        try {
+            return work.get();
+        } finally {
+            ShardKey.restore(previous);
+        }
+    }
+
+    public void run(int shard, Runnable work) {
+        on(shard, () -> {
+            work.run();
+            return null;
+        });
+    }
+
+    /**
+     * Runs the work once per shard, in parallel, and returns the results in shard order.
+     * The first failure (in shard order) is rethrown once every shard has finished.
+     */
+    public <T> List<T> onEach(IntFunction<T> work) {
+        if (!isSharded()) {
+            return List.of(work.apply(0));
+        }
+        List<CompletableFuture<T>> futures = new ArrayList<>(count);
+        for (int shard = 0; shard < count; shard++) {
+            int target = shard;
+            futures.add(CompletableFuture.supplyAsync(() -> on(target, () -> work.apply(target)), fanOut));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).exceptionally(e -> null).join();
+        List<T> results = new ArrayList<>(count);
+        for (CompletableFuture<T> future : futures) {
+            results.add(join(future));
+        }
+        return results;
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException re) throw re;
+            if (e.getCause() instanceof Error err) throw err;
+            throw e;
+        }
+    }
+
+    @Override
+    public void destroy() {
+        fanOut.shutdown();
+    }
+}
@@ -0,0 +1,317 @@
+package com.brandmanagement.snapshot;
+
+import com.brandmanagement.dto.BrandDTO;
+import com.brandmanagement.dto.CatalogStampDTO;
+import com.brandmanagement.dto.ChainDTO;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.zip.CRC32C;
+
+/**
+ * Read-only view of a catalog snapshot file (see CatalogSnapshotWriter for the layout),
+ * memory-mapped so that rows stay in the page cache, not on the heap.
+ *
+ * Lists are views: each element is decoded from the mapping when it is read, so serializing
+ * a list allocates short-lived DTOs but retains nothing. Brand by ID is a binary search over
+ * the sorted ID column; brands by chain go through the chain-to-brand offset index.
+ * Instances are immutable and safe to share between threads.
+ */
+public final class CatalogSnapshot {
+
+    /* ─── File format ───────────────────────────────────────────────── */
+    static final long MAGIC = 0x42524E44534E4150L;      // "BRNDSNAP"
+    static final int FORMAT_VERSION = 1;
+    static final int HEADER_SIZE = 128;
+    static final long NULL_TIME = Long.MIN_VALUE;
+
+    // Header field positions
+    static final int H_MAGIC = 0;
+    static final int H_FORMAT = 8;
+    static final int H_HEADER_SIZE = 12;
+    static final int H_VERSION = 16;
+    static final int H_CREATED_AT = 24;
+    static final int H_CHAIN_COUNT = 32;
+    static final int H_BRAND_COUNT = 36;
+    static final int H_STRING_COUNT = 40;
+    static final int H_BRAND_ETAG = 48;
+    static final int H_CHAIN_ETAG = 52;
+    static final int H_BRANDS_MODIFIED = 56;
+    static final int H_CHAINS_MODIFIED = 64;
+    static final int H_CHAINS_OFFSET = 72;
+    static final int H_BRANDS_OFFSET = 80;
+    static final int H_INDEX_OFFSET = 88;
+    static final int H_STRINGS_OFFSET = 96;
+    static final int H_FILE_LENGTH = 104;
+    static final int H_CHECKSUM = 112;
+
+    private final Path file;
+    private final ByteBuffer buf;
+    private final long version;
+    private final Instant createdAt;
+    private final int chainCount;
+    private final int brandCount;
+    private final CatalogStampDTO brandStamp;
+    private final CatalogStampDTO chainStamp;
+    private final int[] activeChainRows;
+
+    // Column start positions
+    private final int chainIds;
+    private final int chainNames;
+    private final int chainActive;
+    private final int brandIds;
+    private final int brandVersions;
+    private final int brandCreated;
+    private final int brandUpdated;
+    private final int brandChainRows;
+    private final int brandNames;
+    private final int indexStarts;
+    private final int indexRows;
+    private final int stringOffsets;
+    private final int stringBytes;
+
+    private CatalogSnapshot(Path file, ByteBuffer buf) {
+        this.file = file;
+        this.buf = buf;
+        if (buf.capacity() < HEADER_SIZE || buf.getLong(H_MAGIC) != MAGIC) {
+            throw new IllegalArgumentException(file + " is not a catalog snapshot");
+        }
+        if (buf.getInt(H_FORMAT) != FORMAT_VERSION) {
+            throw new IllegalArgumentException(file + " has snapshot format " + buf.getInt(H_FORMAT)
+                    + ", expected " + FORMAT_VERSION);
+        }
+        if (buf.getLong(H_FILE_LENGTH) != buf.capacity()) {
+            throw new IllegalArgumentException(file + " is truncated");
+        }
+        CRC32C crc = new CRC32C();
+        crc.update(buf.slice(HEADER_SIZE, buf.capacity() - HEADER_SIZE));
+        if (crc.getValue() != buf.getLong(H_CHECKSUM)) {
+            throw new IllegalArgumentException(file + " fails its checksum");
+        }
+
+        version = buf.getLong(H_VERSION);
+        createdAt = Instant.ofEpochMilli(buf.getLong(H_CREATED_AT));
+        chainCount = buf.getInt(H_CHAIN_COUNT);
+        brandCount = buf.getInt(H_BRAND_COUNT);
+        int stringCount = buf.getInt(H_STRING_COUNT);
+
+        chainIds = (int) buf.getLong(H_CHAINS_OFFSET);
+        chainNames = chainIds + 8 * chainCount;
+        chainActive = chainNames + 4 * chainCount;
+
+        brandIds = (int) buf.getLong(H_BRANDS_OFFSET);
+        brandVersions = brandIds + 8 * brandCount;
+        brandCreated = brandVersions + 8 * brandCount;
+        brandUpdated = brandCreated + 8 * brandCount;
+        brandChainRows = brandUpdated + 8 * brandCount;
+        brandNames = brandChainRows + 4 * brandCount;
+
+        indexStarts = (int) buf.getLong(H_INDEX_OFFSET);
+        indexRows = indexStarts + 4 * (chainCount + 1);
+
+        stringOffsets = (int) buf.getLong(H_STRINGS_OFFSET);
+        stringBytes = stringOffsets + 4 * (stringCount + 1);
+
+        brandStamp = new CatalogStampDTO(string(buf.getInt(H_BRAND_ETAG)),
+                Instant.ofEpochMilli(buf.getLong(H_BRANDS_MODIFIED)));
+        chainStamp = new CatalogStampDTO(string(buf.getInt(H_CHAIN_ETAG)),
+                Instant.ofEpochMilli(buf.getLong(H_CHAINS_MODIFIED)));
+
+        // Every chain is in the file, so brands by chain can tell empty from unknown; the list skips inactive ones
+        int[] active = new int[chainCount];
+        int n = 0;
+        for (int row = 0; row < chainCount; row++) {
+            if (buf.get(chainActive + row) != 0) {
+                active[n++] = row;
+            }
+        }
+        activeChainRows = Arrays.copyOf(active, n);
+    }
+
+    /** Maps and verifies a snapshot file. The mapping outlives the file being deleted. */
+    public static CatalogSnapshot open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new CatalogSnapshot(file, mapped);
+        }
+    }
+
+    /* ─── Metadata ──────────────────────────────────────────────────── */
+    public Path file() {
+        return file;
+    }
+
+    public long version() {
+        return version;
+    }
+
+    public Instant createdAt() {
+        return createdAt;
+    }
+
+    public int brandCount() {
+        return brandCount;
+    }
+
+    public int chainCount() {
+        return chainCount;
+    }
+
+    /** The brand list stamp (ETag / Last-Modified) of the database when the snapshot was taken. */
+    public CatalogStampDTO brandStamp() {
+        return brandStamp;
+    }
+
+    public CatalogStampDTO chainStamp() {
+        return chainStamp;
+    }
+
+    /* ─── Reads ─────────────────────────────────────────────────────── */
+    /** Active brands in brand ID order. */
+    public List<BrandDTO> activeBrands() {
+        return new Rows(0, brandCount, false);
+    }
+
+    /** Active brands of a chain in brand ID order, or null if the snapshot has no such chain. */
+    public List<BrandDTO> brandsByChain(long chainId) {
+        int chainRow = chainRow(chainId);
+        if (chainRow < 0) {
+            return null;
+        }
+        int start = buf.getInt(indexStarts + 4 * chainRow);
+        int end = buf.getInt(indexStarts + 4 * (chainRow + 1));
+        return new Rows(start, end, true);
+    }
+
+    /** The active brand with this ID, or null. */
+    public BrandDTO brandById(long brandId) {
+        int row = binarySearch(brandIds, brandCount, brandId);
+        return row < 0 ? null : brand(row);
+    }
+
+    /** Active chains in chain ID order. */
+    public List<ChainDTO> activeChains() {
+        return new ChainRows(activeChainRows);
+    }
+
+    /* ─── Decoding ──────────────────────────────────────────────────── */
+    private BrandDTO brand(int row) {
+        int chainRow = buf.getInt(brandChainRows + 4 * row);
+        return new BrandDTO(
+                buf.getLong(brandIds + 8 * row),
+                string(buf.getInt(brandNames + 4 * row)),
+                buf.getLong(chainIds + 8 * chainRow),
+                string(buf.getInt(chainNames + 4 * chainRow)),
+                Boolean.TRUE,
+                time(buf.getLong(brandCreated + 8 * row)),
+                time(buf.getLong(brandUpdated + 8 * row)),
+                buf.getLong(brandVersions + 8 * row));
+    }
+
+    private ChainDTO chain(int row) {
+        return new ChainDTO(
+                buf.getLong(chainIds + 8 * row),
+                string(buf.getInt(chainNames + 4 * row)),
+                buf.get(chainActive + row) != 0);
+    }
+
+    private int chainRow(long chainId) {
+        return binarySearch(chainIds, chainCount, chainId);
+    }
+
+    private int binarySearch(int column, int count, long key) {
+        int low = 0;
+        int high = count - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long value = buf.getLong(column + 8 * mid);
+            if (value < key) {
+                low = mid + 1;
+            } else if (value > key) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    private String string(int ref) {
+        int from = buf.getInt(stringOffsets + 4 * ref);
+        int to = buf.getInt(stringOffsets + 4 * (ref + 1));
+        byte[] bytes = new byte[to - from];
+        buf.get(stringBytes + from, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    static long micros(LocalDateTime time) {
+        return time == null ? NULL_TIME : time.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + time.getNano() / 1_000;
+    }
+
+    private static LocalDateTime time(long micros) {
+        if (micros == NULL_TIME) {
+            return null;
+        }
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000),
+                (int) Math.floorMod(micros, 1_000_000) * 1_000, ZoneOffset.UTC);
+    }
+
+    /** Brands [from, to) of the brand columns, or of the chain index when indexed. */
+    private final class Rows extends AbstractList<BrandDTO> implements RandomAccess {
+
+        private final int from;
+        private final int to;
+        private final boolean indexed;
+
+        Rows(int from, int to, boolean indexed) {
+            this.from = from;
+            this.to = to;
+            this.indexed = indexed;
+        }
+
+        @Override
+        public BrandDTO get(int i) {
+            if (i < 0 || i >= size()) {
+                throw new IndexOutOfBoundsException(i);
+            }
+            int row = indexed ? buf.getInt(indexRows + 4 * (from + i)) : from + i;
+            return brand(row);
+        }
+
+        @Override
+        public int size() {
+            return to - from;
+        }
+    }
+
+    private final class ChainRows extends AbstractList<ChainDTO> implements RandomAccess {
+
+        private final int[] rows;
+
+        ChainRows(int[] rows) {
+            this.rows = rows;
+        }
+
+        @Override
+        public ChainDTO get(int i) {
+            return chain(rows[i]);
+        }
+
+        @Override
+        public int size() {
+            return rows.length;
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.brandmanagement.snapshot;
+
+import com.brandmanagement.config.CacheConfig;
+import com.brandmanagement.dto.CatalogStampDTO;
+import com.brandmanagement.dto.ChainDTO;
+import com.brandmanagement.search.BrandSearchIndex;
+import com.brandmanagement.service.BrandService;
+import com.brandmanagement.service.ChainService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Loads the published catalog snapshot on this instance, in one of two modes:
+ *
+ *   app.snapshot.serve        keeps the snapshot mapped for SnapshotBrandServiceImpl and
+ *                             SnapshotChainServiceImpl, builds the search index from it, and
+ *                             swaps in each newly published version (checked every refresh-interval)
+ *   app.snapshot.warm-start   if the snapshot still matches the database's catalog stamps,
+ *                             fills the chain and brands-by-chain caches and the search index
+ *                             from it once, then lets it go
+ *
+ * Both run at ApplicationStartedEvent, before the instance reports ready for traffic.
+ *
+ * Meters (serve mode): brand.snapshot.version gauge, brand.snapshot.age gauge
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CatalogSnapshotHolder {
+
+    private final CatalogSnapshotStore store;
+    private final BrandSearchIndex searchIndex;
+    private final CacheManager cacheManager;
+    // Providers: in serve mode the primary services are the snapshot ones, which use this holder
+    private final ObjectProvider<BrandService> brandService;
+    private final ObjectProvider<ChainService> chainService;
+    private final MeterRegistry registry;
+
+    @Value("${app.snapshot.serve:false}")
+    private boolean serve;
+
+    @Value("${app.snapshot.warm-start:false}")
+    private boolean warmStart;
+
+    @Value("${app.snapshot.refresh-interval:10s}")
+    private Duration refreshInterval;
+
+    @Value("${app.cache.brands-by-chain.max-size:200}")
+    private int brandsByChainCacheSize;
+
+    private volatile CatalogSnapshot current;
+    private volatile boolean running;
+    private volatile Thread refresher;
+
+    /* ─── Lifecycle ─────────────────────────────────────────────────── */
+    @EventListener(ApplicationStartedEvent.class)
+    public synchronized void start() {
+        if (serve) {
+            current = load().orElse(null);
+            searchIndex.replaceAll(current == null ? List.of() : current.activeBrands());
+            Gauge.builder("brand.snapshot.version", this, h -> h.current == null ? 0 : h.current.version())
+                    .description("Version of the catalog snapshot being served")
+                    .register(registry);
+            TimeGauge.builder("brand.snapshot.age", this, TimeUnit.MILLISECONDS, h -> h.current == null
+                            ? 0 : Duration.between(h.current.createdAt(), Instant.now()).toMillis())
+                    .description("Time since the served catalog snapshot was taken")
+                    .register(registry);
+            running = true;
+            refresher = Thread.ofPlatform().name("catalog-snapshot-refresher").daemon().start(this::refresh);
+        } else if (warmStart) {
+            try {
+                load().ifPresent(this::warmCaches);
+            } catch (RuntimeException e) {
+                // Only an optimization: the caches fill from the database as usual
+                log.warn("Warm start from the catalog snapshot failed: {}", e.toString());
+            }
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        Thread thread = refresher;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    /** The snapshot being served, or null when not serving or none has been published yet. */
+    public CatalogSnapshot current() {
+        return current;
+    }
+
+    /* ─── Serve mode ────────────────────────────────────────────────── */
+    private void refresh() {
+        while (running) {
+            try {
+                Thread.sleep(refreshInterval);
+            } catch (InterruptedException e) {
+                return;
+            }
+            try {
+                Optional<Path> published = store.current();
+                CatalogSnapshot served = current;
+                if (published.isEmpty() || (served != null && published.get().equals(served.file()))) {
+                    continue;
+                }
+                CatalogSnapshot next = CatalogSnapshot.open(published.get());
+                if (served != null && next.version() <= served.version()) {
+                    continue;
+                }
+                searchIndex.replaceAll(next.activeBrands());
+                current = next;
+                log.info("Serving catalog snapshot version {} ({} brands)", next.version(), next.brandCount());
+            } catch (IOException | RuntimeException e) {
+                // Keep serving the previous version; a half-written file never becomes CURRENT
+                log.warn("Could not load the published catalog snapshot: {}", e.toString());
+            }
+        }
+    }
+
+    /* ─── Warm start ────────────────────────────────────────────────── */
+    private void warmCaches(CatalogSnapshot snapshot) {
+        CatalogStampDTO brands = brandService.getObject().getCatalogStamp();
+        CatalogStampDTO chains = chainService.getObject().getCatalogStamp();
+        if (!brands.getEtag().equals(snapshot.brandStamp().getEtag())
+                || !chains.getEtag().equals(snapshot.chainStamp().getEtag())) {
+            log.info("Catalog snapshot version {} is out of date; starting cold", snapshot.version());
+            return;
+        }
+
+        List<ChainDTO> activeChains = new ArrayList<>(snapshot.activeChains());
+        cache(CacheConfig.CHAINS).put("active", activeChains);
+        Cache brandsByChain = cache(CacheConfig.BRANDS_BY_CHAIN);
+        // Heap copies, like the lists the database path caches; no more chains than the cache keeps
+        for (ChainDTO chain : activeChains.subList(0, Math.min(activeChains.size(), brandsByChainCacheSize))) {
+            brandsByChain.put(chain.getChainId(), new ArrayList<>(snapshot.brandsByChain(chain.getChainId())));
+        }
+        searchIndex.replaceAll(snapshot.activeBrands());
+        log.info("Warm start from catalog snapshot version {}: {} chains, {} brands",
+                snapshot.version(), activeChains.size(), snapshot.brandCount());
+    }
+
+    /* ─── Helpers ───────────────────────────────────────────────────── */
+    private Optional<CatalogSnapshot> load() {
+        try {
+            Optional<Path> published = store.current();
+            if (published.isEmpty()) {
+                log.info("No catalog snapshot published yet");
+                return Optional.empty();
+            }
+            return Optional.of(CatalogSnapshot.open(published.get()));
+        } catch (IOException | RuntimeException e) {
+            log.warn("Could not load the published catalog snapshot: {}", e.toString());
+            return Optional.empty();
+        }
+    }
+
+    private Cache cache(String name) {
+        Cache cache = cacheManager.getCache(name);
+        if (cache == null) {
+            throw new IllegalStateException("No cache named " + name);
+        }
+        return cache;
+    }
+}
@@ -0,0 +1,162 @@
+package com.brandmanagement.snapshot;
+
+import com.brandmanagement.dto.BrandDTO;
+import com.brandmanagement.dto.CatalogStampDTO;
+import com.brandmanagement.dto.ChainDTO;
+import com.brandmanagement.metrics.Outcome;
+import com.brandmanagement.repository.ChainRepository;
+import com.brandmanagement.service.BrandService;
+import com.brandmanagement.service.ChainService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Background job that publishes a catalog snapshot whenever the catalog has changed
+ * (app.snapshot.publish.enabled; one instance is enough, several take turns).
+ *
+ * Every interval it reads the brand and chain catalog stamps and compares them with the
+ * latest published snapshot. If either changed, it loads all chains and active brands
+ * through the services (every shard when sharded) and publishes them as the next version.
+ * The stamps are read before the rows, so a write that races the load changes the stamp
+ * again and is picked up by the next round.
+ *
+ * Meter: brand.snapshot.publish timer (outcome)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CatalogSnapshotPublisher {
+
+    private final CatalogSnapshotStore store;
+    private final BrandService brandService;
+    private final ChainService chainService;
+    private final ChainRepository chainRepository;
+    private final MeterRegistry registry;
+
+    @Value("${app.snapshot.publish.enabled:false}")
+    private boolean enabled;
+
+    @Value("${app.snapshot.publish.interval:5m}")
+    private Duration interval;
+
+    @Value("${app.snapshot.publish.retain:3}")
+    private int retain;
+
+    @Value("${app.snapshot.serve:false}")
+    private boolean serve;
+
+    private volatile boolean running;
+    private volatile Thread thread;
+    private CatalogStampDTO publishedBrandStamp;
+    private CatalogStampDTO publishedChainStamp;
+
+    /* ─── Lifecycle ─────────────────────────────────────────────────── */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (!enabled || running) {
+            return;
+        }
+        if (serve) {
+            throw new IllegalStateException("app.snapshot.publish.enabled needs the database; it cannot be combined with app.snapshot.serve");
+        }
+        running = true;
+        thread = Thread.ofPlatform().name("catalog-snapshot-publisher").daemon().start(this::publishLoop);
+        log.info("Catalog snapshot publisher started: every {}, keeping {} versions", interval, retain);
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        Thread publisher = thread;
+        if (publisher != null) {
+            publisher.interrupt();
+        }
+    }
+
+    private void publishLoop() {
+        while (running) {
+            try {
+                publishIfChanged();
+            } catch (RuntimeException e) {
+                log.warn("Catalog snapshot publish failed; retrying in {}: {}", interval, e.toString());
+            }
+            try {
+                Thread.sleep(interval);
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    /* ─── Publish ───────────────────────────────────────────────────── */
+    /** Publishes a new version unless the catalog stamps match the latest one; returns it. */
+    public synchronized Optional<Long> publishIfChanged() {
+        CatalogStampDTO brandStamp = brandService.getCatalogStamp();
+        CatalogStampDTO chainStamp = chainService.getCatalogStamp();
+        if (publishedBrandStamp == null) {
+            // First round after a restart: compare with what is already on disk
+            latestPublished().ifPresent(latest -> {
+                publishedBrandStamp = latest.brandStamp();
+                publishedChainStamp = latest.chainStamp();
+            });
+        }
+        if (publishedBrandStamp != null
+                && brandStamp.getEtag().equals(publishedBrandStamp.getEtag())
+                && chainStamp.getEtag().equals(publishedChainStamp.getEtag())) {
+            return Optional.empty();
+        }
+
+        Timer.Sample sample = Timer.start(registry);
+        String outcome = Outcome.SUCCESS;
+        try {
+            List<ChainDTO> chains = chainRepository.findAll().stream()
+                    .map(chain -> new ChainDTO(chain.getChainId(), chain.getChainName(), chain.getIsActive()))
+                    .toList();
+            List<BrandDTO> brands = brandService.getAllActiveBrands();
+            Instant createdAt = Instant.now();
+            long version = store.publish((file, v) -> CatalogSnapshotWriter.write(
+                    file, v, createdAt, brandStamp, chainStamp, chains, brands), retain);
+
+            publishedBrandStamp = brandStamp;
+            publishedChainStamp = chainStamp;
+            log.info("Published catalog snapshot version {}: {} chains, {} brands", version, chains.size(), brands.size());
+            return Optional.of(version);
+        } catch (IOException e) {
+            outcome = Outcome.of(e);
+            throw new UncheckedIOException(e);
+        } catch (RuntimeException e) {
+            outcome = Outcome.of(e);
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("brand.snapshot.publish")
+                    .description("Time to load the catalog and publish a snapshot")
+                    .tag("outcome", outcome)
+                    .register(registry));
+        }
+    }
+
+    private Optional<CatalogSnapshot> latestPublished() {
+        try {
+            Optional<Path> file = store.current();
+            return file.isEmpty() ? Optional.empty() : Optional.of(CatalogSnapshot.open(file.get()));
+        } catch (IOException | RuntimeException e) {
+            log.warn("Ignoring the published catalog snapshot: {}", e.toString());
+            return Optional.empty();
+        }
+    }
+}
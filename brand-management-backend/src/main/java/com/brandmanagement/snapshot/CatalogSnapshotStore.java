@@ -0,0 +1,115 @@
+package com.brandmanagement.snapshot;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * The snapshot directory (app.snapshot.dir), which may be shared by several instances:
+ *
+ *   catalog-v{version}.snap   immutable snapshot files, one per published version
+ *   CURRENT                   name of the published snapshot file
+ *
+ * Publishing writes a new version next to the old ones, then replaces CURRENT with an atomic
+ * rename, so readers see either the old or the new file name, never a partial file. Older
+ * versions are kept (retain) for readers that have just read the previous CURRENT; files that
+ * are already mapped stay readable after deletion.
+ */
+@Slf4j
+@Component
+public class CatalogSnapshotStore {
+
+    private static final String CURRENT = "CURRENT";
+    private static final Pattern SNAPSHOT_FILE = Pattern.compile("catalog-v(\\d+)\\.snap");
+
+    private final Path dir;
+
+    public CatalogSnapshotStore(@Value("${app.snapshot.dir:snapshots}") Path dir) {
+        this.dir = dir;
+    }
+
+    /** Writes the content of one snapshot version to the given file. */
+    @FunctionalInterface
+    public interface SnapshotContent {
+        void writeTo(Path file, long version) throws IOException;
+    }
+
+    /* ─── Publish ───────────────────────────────────────────────────── */
+    /**
+     * Writes the next version through content, makes it CURRENT and deletes all but the newest
+     * retain versions. Publishers on several instances take turns on an exclusive file lock.
+     */
+    public long publish(SnapshotContent content, int retain) throws IOException {
+        Files.createDirectories(dir);
+        try (FileChannel lockFile = FileChannel.open(dir.resolve("publish.lock"),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+             FileLock lock = lockFile.lock()) {
+            long version = versions().stream().max(Long::compare).orElse(0L) + 1;
+            Path file = dir.resolve(fileName(version));
+            Path partial = dir.resolve(fileName(version) + ".tmp");
+            Files.deleteIfExists(partial);
+            try {
+                content.writeTo(partial, version);
+                Files.move(partial, file, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(partial);
+            }
+
+            Path pointer = dir.resolve(CURRENT + ".tmp");
+            Files.writeString(pointer, file.getFileName().toString(), StandardCharsets.UTF_8);
+            Files.move(pointer, dir.resolve(CURRENT), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+
+            prune(retain);
+            return version;
+        }
+    }
+
+    /* ─── Read ──────────────────────────────────────────────────────── */
+    /** The current snapshot file, if one has been published. */
+    public Optional<Path> current() throws IOException {
+        try {
+            String name = Files.readString(dir.resolve(CURRENT), StandardCharsets.UTF_8).trim();
+            return name.isEmpty() ? Optional.empty() : Optional.of(dir.resolve(name));
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        }
+    }
+
+    /* ─── Helpers ───────────────────────────────────────────────────── */
+    private void prune(int retain) throws IOException {
+        List<Long> versions = versions().stream().sorted(Comparator.reverseOrder()).toList();
+        for (Long old : versions.subList(Math.min(Math.max(retain, 1), versions.size()), versions.size())) {
+            Files.deleteIfExists(dir.resolve(fileName(old)));
+            log.debug("Deleted catalog snapshot version {}", old);
+        }
+    }
+
+    private List<Long> versions() throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.map(f -> SNAPSHOT_FILE.matcher(f.getFileName().toString()))
+                    .filter(Matcher::matches)
+                    .map(m -> Long.parseLong(m.group(1)))
+                    .toList();
+        }
+    }
+
+    private static String fileName(long version) {
+        return "catalog-v" + version + ".snap";
+    }
+}
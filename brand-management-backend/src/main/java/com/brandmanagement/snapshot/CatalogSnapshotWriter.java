@@ -0,0 +1,213 @@
+package com.brandmanagement.snapshot;
+
+import com.brandmanagement.dto.BrandDTO;
+import com.brandmanagement.dto.CatalogStampDTO;
+import com.brandmanagement.dto.ChainDTO;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedOutputStream;
+
+import static com.brandmanagement.snapshot.CatalogSnapshot.*;
+
+/**
+ * Writes a catalog snapshot file. Layout (big-endian, every section 8-byte aligned):
+ *
+ *   header     128 bytes: magic, format, version, counts, stamps, section offsets,
+ *              file length, CRC32C of everything after the header
+ *   chains     long[] chainId (ascending), int[] name, byte[] active
+ *   brands     long[] brandId (ascending), long[] version, long[] createdAt, long[] updatedAt
+ *              (epoch micros, MIN_VALUE = null), int[] chain row, int[] name
+ *   index      int[chains + 1] start of each chain's run in the next array,
+ *              int[brands] brand rows grouped by chain row, ascending within a chain
+ *   strings    int[strings + 1] start of each string in the next array, byte[] UTF-8;
+ *              every distinct name (and the stamps) is stored once
+ *
+ * Names are references into the string pool. The whole file must stay below 2 GB, the limit
+ * of a single mapping.
+ */
+final class CatalogSnapshotWriter {
+
+    private CatalogSnapshotWriter() {
+    }
+
+    /**
+     * @param chains every chain, active or not
+     * @param brands every active brand; each must belong to one of the chains
+     */
+    static void write(Path file, long version, Instant createdAt,
+                      CatalogStampDTO brandStamp, CatalogStampDTO chainStamp,
+                      List<ChainDTO> chains, List<BrandDTO> brands) throws IOException {
+        List<ChainDTO> chainRows = new ArrayList<>(chains);
+        chainRows.sort(Comparator.comparing(ChainDTO::getChainId));
+        List<BrandDTO> brandRows = new ArrayList<>(brands);
+        brandRows.sort(Comparator.comparing(BrandDTO::getBrandId));
+
+        Map<Long, Integer> rowOfChain = new HashMap<>();
+        for (int row = 0; row < chainRows.size(); row++) {
+            rowOfChain.put(chainRows.get(row).getChainId(), row);
+        }
+
+        // String pool: first use assigns the reference
+        Map<String, Integer> pool = new LinkedHashMap<>();
+        int brandEtag = intern(pool, brandStamp.getEtag());
+        int chainEtag = intern(pool, chainStamp.getEtag());
+        int[] chainNames = new int[chainRows.size()];
+        for (int row = 0; row < chainRows.size(); row++) {
+            chainNames[row] = intern(pool, chainRows.get(row).getChainName());
+        }
+        int[] brandNames = new int[brandRows.size()];
+        int[] brandChains = new int[brandRows.size()];
+        int[] brandsPerChain = new int[chainRows.size() + 1];
+        for (int row = 0; row < brandRows.size(); row++) {
+            BrandDTO brand = brandRows.get(row);
+            brandNames[row] = intern(pool, brand.getBrandName());
+            Integer chainRow = rowOfChain.get(brand.getChainId());
+            if (chainRow == null) {
+                throw new IllegalArgumentException("Brand " + brand.getBrandId() + " has unknown chain " + brand.getChainId());
+            }
+            brandChains[row] = chainRow;
+            brandsPerChain[chainRow + 1]++;
+        }
+
+        // Chain index: prefix sums, then brand rows in ID order fall into their chain's run
+        int[] starts = brandsPerChain;
+        for (int c = 0; c < chainRows.size(); c++) {
+            starts[c + 1] += starts[c];
+        }
+        int[] next = starts.clone();
+        int[] indexRows = new int[brandRows.size()];
+        for (int row = 0; row < brandRows.size(); row++) {
+            indexRows[next[brandChains[row]]++] = row;
+        }
+
+        List<byte[]> strings = new ArrayList<>(pool.size());
+        long stringLength = 0;
+        for (String s : pool.keySet()) {
+            byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+            strings.add(bytes);
+            stringLength += bytes.length;
+        }
+
+        int chainCount = chainRows.size();
+        int brandCount = brandRows.size();
+        long chainsOffset = HEADER_SIZE;
+        long brandsOffset = align(chainsOffset + 13L * chainCount);
+        long indexOffset = align(brandsOffset + 40L * brandCount);
+        long stringsOffset = align(indexOffset + 4L * (chainCount + 1) + 4L * brandCount);
+        long fileLength = align(stringsOffset + 4L * (strings.size() + 1) + stringLength);
+        if (fileLength > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Catalog snapshot would be " + fileLength + " bytes; the limit is 2 GB");
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            // Body first, behind a blank header, so its checksum is known when the header is written
+            channel.position(HEADER_SIZE);
+            CRC32C crc = new CRC32C();
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                    new CheckedOutputStream(Channels.newOutputStream(channel), crc), 1 << 16));
+
+            for (ChainDTO chain : chainRows) {
+                out.writeLong(chain.getChainId());
+            }
+            for (int name : chainNames) {
+                out.writeInt(name);
+            }
+            for (ChainDTO chain : chainRows) {
+                out.writeByte(Boolean.TRUE.equals(chain.getIsActive()) ? 1 : 0);
+            }
+            pad(out, brandsOffset);
+
+            for (BrandDTO brand : brandRows) {
+                out.writeLong(brand.getBrandId());
+            }
+            for (BrandDTO brand : brandRows) {
+                out.writeLong(brand.getVersion() == null ? 0 : brand.getVersion());
+            }
+            for (BrandDTO brand : brandRows) {
+                out.writeLong(micros(brand.getCreatedAt()));
+            }
+            for (BrandDTO brand : brandRows) {
+                out.writeLong(micros(brand.getUpdatedAt()));
+            }
+            for (int chainRow : brandChains) {
+                out.writeInt(chainRow);
+            }
+            for (int name : brandNames) {
+                out.writeInt(name);
+            }
+            pad(out, indexOffset);
+
+            for (int start : starts) {
+                out.writeInt(start);
+            }
+            for (int row : indexRows) {
+                out.writeInt(row);
+            }
+            pad(out, stringsOffset);
+
+            int offset = 0;
+            out.writeInt(0);
+            for (byte[] bytes : strings) {
+                offset += bytes.length;
+                out.writeInt(offset);
+            }
+            for (byte[] bytes : strings) {
+                out.write(bytes);
+            }
+            pad(out, fileLength);
+            out.flush();
+
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            header.putLong(H_MAGIC, MAGIC)
+                    .putInt(H_FORMAT, FORMAT_VERSION)
+                    .putInt(H_HEADER_SIZE, HEADER_SIZE)
+                    .putLong(H_VERSION, version)
+                    .putLong(H_CREATED_AT, createdAt.toEpochMilli())
+                    .putInt(H_CHAIN_COUNT, chainCount)
+                    .putInt(H_BRAND_COUNT, brandCount)
+                    .putInt(H_STRING_COUNT, strings.size())
+                    .putInt(H_BRAND_ETAG, brandEtag)
+                    .putInt(H_CHAIN_ETAG, chainEtag)
+                    .putLong(H_BRANDS_MODIFIED, brandStamp.getLastModified().toEpochMilli())
+                    .putLong(H_CHAINS_MODIFIED, chainStamp.getLastModified().toEpochMilli())
+                    .putLong(H_CHAINS_OFFSET, chainsOffset)
+                    .putLong(H_BRANDS_OFFSET, brandsOffset)
+                    .putLong(H_INDEX_OFFSET, indexOffset)
+                    .putLong(H_STRINGS_OFFSET, stringsOffset)
+                    .putLong(H_FILE_LENGTH, fileLength)
+                    .putLong(H_CHECKSUM, crc.getValue());
+            channel.write(header, 0);
+            channel.force(true);
+        }
+    }
+
+    private static int intern(Map<String, Integer> pool, String s) {
+        return pool.computeIfAbsent(s == null ? "" : s, k -> pool.size());
+    }
+
+    private static long align(long position) {
+        return (position + 7) & ~7L;
+    }
+
+    private static void pad(DataOutputStream out, long position) throws IOException {
+        while (HEADER_SIZE + out.size() < position) {
+            out.writeByte(0);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+-- Columns and indexes added since the baseline, for new databases and baselined ones alike:
+--   * brand_name_normalized (trimmed, lower-cased brand_name) and the generated active_key,
+--     which together make active brand names unique per chain, case-insensitively
+--   * version, the optimistic-lock counter
+--   * catalog_version, the per-catalog counter behind the list ETags
+--   * the change-feed and zone-link indexes
+-- Existing rows are backfilled before the unique index is added.
+ALTER TABLE brand
+  ADD COLUMN brand_name_normalized VARCHAR(50) NULL AFTER brand_name,
+  -- 1 when active, NULL otherwise, so inactive rows never collide in the unique index
+  ADD COLUMN active_key TINYINT GENERATED ALWAYS AS (CASE WHEN is_active THEN 1 END) AFTER is_active,
+  ADD COLUMN version BIGINT NOT NULL DEFAULT 0 AFTER active_key;
+
+UPDATE brand SET brand_name_normalized = LOWER(TRIM(brand_name));
+
+-- The old index compared names as stored, so active names differing only in surrounding spaces
+-- could coexist. Keep the oldest of each such group active and soft-delete the others.
+UPDATE brand b
+JOIN (SELECT brand_name_normalized, chain_id, MIN(brand_id) AS keep_id
+      FROM brand
+      WHERE is_active
+      GROUP BY brand_name_normalized, chain_id
+      HAVING COUNT(*) > 1) dup
+  ON dup.brand_name_normalized = b.brand_name_normalized AND dup.chain_id = b.chain_id
+SET b.is_active = false, b.version = b.version + 1, b.updated_at = NOW(6)
+WHERE b.is_active AND b.brand_id <> dup.keep_id;
+
+ALTER TABLE brand
+  MODIFY COLUMN brand_name_normalized VARCHAR(50) NOT NULL,
+  ALTER COLUMN version DROP DEFAULT,
+  ADD CONSTRAINT uq_brand_norm_name_chain_active UNIQUE (brand_name_normalized, chain_id, active_key);
+
+CREATE INDEX idx_brand_updated_at_id ON brand (updated_at, brand_id);
+
+CREATE INDEX idx_zone_brand_active ON zone (brand_id, is_active);
+
+CREATE TABLE catalog_version (
+  catalog_name VARCHAR(30) NOT NULL,
+  version      BIGINT      NOT NULL,
+  updated_at   DATETIME(6) NOT NULL,
+  PRIMARY KEY (catalog_name)
+) ENGINE = InnoDB;
@@ -0,0 +1,36 @@
+-- Baseline schema: the tables ddl-auto=update created from the entities before the switch to
+-- Flyway. Databases created that way are baselined at this version and skip this script, so it
+-- must not contain anything they lack; every later change goes in a migration of its own.
+
+CREATE TABLE chain (
+  chain_id    BIGINT       NOT NULL AUTO_INCREMENT,
+  chain_name  VARCHAR(100) NOT NULL,
+  is_active   BIT(1)       NOT NULL,
+  created_at  DATETIME(6)  NOT NULL,
+  updated_at  DATETIME(6),
+  PRIMARY KEY (chain_id),
+  CONSTRAINT uq_chain_name UNIQUE (chain_name)
+) ENGINE = InnoDB;
+
+CREATE TABLE brand (
+  brand_id    BIGINT      NOT NULL AUTO_INCREMENT,
+  brand_name  VARCHAR(50) NOT NULL,
+  chain_id    BIGINT      NOT NULL,
+  is_active   BIT(1)      NOT NULL,
+  created_at  DATETIME(6) NOT NULL,
+  updated_at  DATETIME(6),
+  PRIMARY KEY (brand_id),
+  CONSTRAINT uq_brand_name_chain UNIQUE (brand_name, chain_id),
+  CONSTRAINT fk_brand_chain FOREIGN KEY (chain_id) REFERENCES chain (chain_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE zone (
+  zone_id     BIGINT       NOT NULL AUTO_INCREMENT,
+  zone_name   VARCHAR(100) NOT NULL,
+  brand_id    BIGINT       NOT NULL,
+  is_active   BIT(1)       NOT NULL,
+  created_at  DATETIME(6)  NOT NULL,
+  updated_at  DATETIME(6),
+  PRIMARY KEY (zone_id),
+  CONSTRAINT fk_zone_brand FOREIGN KEY (brand_id) REFERENCES brand (brand_id)
+) ENGINE = InnoDB;
@@ -0,0 +1,21 @@
+-- Seed Chain (Company) data
+INSERT IGNORE INTO chain (chain_id, chain_name, is_active, created_at, updated_at)
+VALUES
+  (1, 'Alpha Group',    true, NOW(), NOW()),
+  (2, 'Beta Holdings',  true, NOW(), NOW()),
+  (3, 'Gamma Corp',     true, NOW(), NOW()),
+  (4, 'Delta Ventures', true, NOW(), NOW()),
+  (5, 'Epsilon Ltd',    true, NOW(), NOW());
+
+-- Seed catalog versions (bumped by every brand write; used for list ETags)
+INSERT IGNORE INTO catalog_version (catalog_name, version, updated_at)
+VALUES ('brands', 0, NOW());
+
+-- Seed Brand data
+INSERT IGNORE INTO brand (brand_name, brand_name_normalized, chain_id, is_active, version, created_at, updated_at)
+VALUES
+  ('Alpha Brand A',  'alpha brand a',   1, true, 0, NOW(), NOW()),
+  ('Alpha Brand B',  'alpha brand b',   1, true, 0, NOW(), NOW()),
+  ('Beta Brand X',   'beta brand x',    2, true, 0, NOW(), NOW()),
+  ('Gamma Brand One','gamma brand one', 3, true, 0, NOW(), NOW()),
+  ('Delta Prime',    'delta prime',     4, true, 0, NOW(), NOW());
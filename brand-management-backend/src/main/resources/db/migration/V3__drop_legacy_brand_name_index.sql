@@ -0,0 +1,11 @@
+-- The baseline's (brand_name, chain_id) unique index compares names as stored and also blocks
+-- re-creating a soft-deleted name. Uniqueness is enforced by uq_brand_norm_name_chain_active
+-- since V1.1; drop the old index if present.
+SET @drop_legacy_index = (
+  SELECT IF(COUNT(*) > 0, 'ALTER TABLE brand DROP INDEX uq_brand_name_chain', 'DO 0')
+  FROM information_schema.statistics
+  WHERE table_schema = DATABASE() AND table_name = 'brand' AND index_name = 'uq_brand_name_chain'
+);
+PREPARE drop_legacy_index FROM @drop_legacy_index;
+EXECUTE drop_legacy_index;
+DEALLOCATE PREPARE drop_legacy_index;
@@ -0,0 +1,37 @@
+-- Partition brand by chain_id, so reads and writes for one company touch one partition.
+-- HASH places a chain in partition chain_id MOD brand-partitions; EXPLAIN lists the partitions
+-- a statement reads (see scripts/partition-plans.sh).
+--
+-- MySQL partitioned tables cannot have foreign keys, and every unique key must include the
+-- partitioning column:
+--   * the brand -> chain and zone -> brand foreign keys are dropped. The service checks that
+--     a chain exists before it writes a brand, and brands are only ever soft-deleted.
+--     This applies to single-database deployments too: they are partitioned as well, and
+--     MySQL rejects the partitioning while either key exists.
+--   * the primary key becomes (brand_id, chain_id). brand_id stays AUTO_INCREMENT and leads it.
+-- Databases created by ddl-auto=update name their foreign keys differently, so names are looked up.
+SET @drop_zone_fks = (
+  SELECT IFNULL(CONCAT('ALTER TABLE zone ',
+                       GROUP_CONCAT(CONCAT('DROP FOREIGN KEY `', constraint_name, '`') SEPARATOR ', ')),
+                'DO 0')
+  FROM information_schema.referential_constraints
+  WHERE constraint_schema = DATABASE() AND table_name = 'zone' AND referenced_table_name = 'brand'
+);
+PREPARE drop_zone_fks FROM @drop_zone_fks;
+EXECUTE drop_zone_fks;
+DEALLOCATE PREPARE drop_zone_fks;
+
+SET @drop_brand_fks = (
+  SELECT IFNULL(CONCAT('ALTER TABLE brand ',
+                       GROUP_CONCAT(CONCAT('DROP FOREIGN KEY `', constraint_name, '`') SEPARATOR ', ')),
+                'DO 0')
+  FROM information_schema.referential_constraints
+  WHERE constraint_schema = DATABASE() AND table_name = 'brand'
+);
+PREPARE drop_brand_fks FROM @drop_brand_fks;
+EXECUTE drop_brand_fks;
+DEALLOCATE PREPARE drop_brand_fks;
+
+ALTER TABLE brand DROP PRIMARY KEY, ADD PRIMARY KEY (brand_id, chain_id);
+
+ALTER TABLE brand PARTITION BY HASH (chain_id) PARTITIONS ${brand-partitions};
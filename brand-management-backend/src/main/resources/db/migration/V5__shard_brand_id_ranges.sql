@@ -0,0 +1,18 @@
+-- Multi-database sharding (app.shards.urls). Every shard database runs every migration with
+-- its own shard-index and the shard-count. On a single database these are 0 and 1, and this
+-- script changes nothing.
+--
+-- Brand IDs on shard k start at k << 40, so a brand ID alone names its shard. Each shard then
+-- keeps only the seed brands of the chains it owns (chain_id MOD shard-count = shard-index).
+-- This runs once, when the shard is created. Changing the shard count later means moving rows.
+UPDATE zone SET brand_id = brand_id + (${shard-index} << 40) WHERE ${shard-index} > 0;
+UPDATE brand SET brand_id = brand_id + (${shard-index} << 40) WHERE ${shard-index} > 0;
+
+SET @brand_id_start = CONCAT('ALTER TABLE brand AUTO_INCREMENT = ', (${shard-index} << 40) + 1);
+PREPARE brand_id_start FROM @brand_id_start;
+EXECUTE brand_id_start;
+DEALLOCATE PREPARE brand_id_start;
+
+DELETE z FROM zone z JOIN brand b ON b.brand_id = z.brand_id
+WHERE MOD(b.chain_id, ${shard-count}) <> ${shard-index};
+DELETE FROM brand WHERE MOD(chain_id, ${shard-count}) <> ${shard-index};
@@ -0,0 +1,31 @@
+-- Transactional outbox: every brand write appends one row per written brand in the same
+-- transaction. BrandOutboxRelay delivers rows to the event sinks in batches and deletes them
+-- once every sink has accepted them. On a sharded setup each shard has its own outbox.
+CREATE TABLE brand_outbox (
+  event_id      BIGINT      NOT NULL AUTO_INCREMENT,
+  event_type    VARCHAR(10) NOT NULL,
+  brand_id      BIGINT      NOT NULL,
+  chain_id      BIGINT,
+  brand_name    VARCHAR(50),
+  is_active     BIT(1)      NOT NULL,
+  brand_version BIGINT,
+  occurred_at   DATETIME(6) NOT NULL,
+  PRIMARY KEY (event_id)
+) ENGINE = InnoDB;
+
+-- Audit history written by the audit sink, in the transaction that deletes the outbox rows,
+-- so each event is recorded exactly once
+CREATE TABLE brand_audit (
+  event_id      BIGINT      NOT NULL,
+  event_type    VARCHAR(10) NOT NULL,
+  brand_id      BIGINT      NOT NULL,
+  chain_id      BIGINT,
+  brand_name    VARCHAR(50),
+  is_active     BIT(1)      NOT NULL,
+  brand_version BIGINT,
+  occurred_at   DATETIME(6) NOT NULL,
+  recorded_at   DATETIME(6) NOT NULL,
+  PRIMARY KEY (event_id)
+) ENGINE = InnoDB;
+
+CREATE INDEX idx_brand_audit_brand_event ON brand_audit (brand_id, event_id);
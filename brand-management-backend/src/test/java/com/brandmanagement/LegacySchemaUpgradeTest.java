@@ -0,0 +1,121 @@
+package com.brandmanagement;
+
+import com.brandmanagement.dto.BrandRequestDTO;
+import com.brandmanagement.exception.DuplicateBrandException;
+import com.brandmanagement.service.BrandService;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.flywaydb.core.api.CoreMigrationType;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Upgrades a database created by ddl-auto=update before Flyway: Flyway baselines it at V1,
+ * applies every later migration, and the application starts against it with ddl-auto=validate.
+ * Needs Docker for the MySQL container; skipped without it.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Testcontainers(disabledWithoutDocker = true)
+class LegacySchemaUpgradeTest {
+
+    @Container
+    static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+    @DynamicPropertySource
+    static void mysqlProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", MYSQL::getJdbcUrl);
+        registry.add("spring.datasource.username", MYSQL::getUsername);
+        registry.add("spring.datasource.password", MYSQL::getPassword);
+        registry.add("spring.datasource.driver-class-name", MYSQL::getDriverClassName);
+        registry.add("spring.flyway.enabled", () -> "true");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "validate");
+    }
+
+    // Runs after the container starts and before the application context, and so Flyway
+    @BeforeAll
+    static void createLegacyDatabase() throws SQLException {
+        try (Connection con = DriverManager.getConnection(MYSQL.getJdbcUrl(), MYSQL.getUsername(), MYSQL.getPassword())) {
+            ScriptUtils.executeSqlScript(con, new ClassPathResource("db/legacy/ddl-auto-schema.sql"));
+        }
+    }
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private BrandService brandService;
+
+    @Test
+    void baselinesAtV1AndAppliesEveryLaterMigration() {
+        MigrationInfo[] applied = flyway.info().applied();
+
+        assertThat(applied[0].getType()).isEqualTo(CoreMigrationType.BASELINE);
+        assertThat(applied[0].getVersion().getVersion()).isEqualTo("1");
+        assertThat(Arrays.stream(applied).skip(1).map(info -> info.getVersion().getVersion()))
+                .containsExactly("1.1", "2", "3", "4", "5", "6");
+        assertThat(flyway.info().pending()).isEmpty();
+    }
+
+    @Test
+    void backfillsExistingBrands() {
+        Map<String, Object> brand = jdbcTemplate.queryForMap(
+                "SELECT brand_name_normalized, version FROM brand WHERE brand_id = 1");
+
+        assertThat(brand).containsEntry("brand_name_normalized", "alpha brand a").containsEntry("version", 0L);
+        assertThat(brandService.getBrandById(1L).getBrandName()).isEqualTo("Alpha Brand A");
+        // The seed script ran again and skipped the brands data.sql had already inserted
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM brand WHERE brand_name_normalized = 'alpha brand a'", Integer.class))
+                .isEqualTo(1);
+    }
+
+    @Test
+    void keepsTheOldestOfNamesThatCollideOnceNormalized() {
+        assertThat(isActive(2)).isTrue();
+        assertThat(isActive(7)).isFalse();
+    }
+
+    @Test
+    void enforcesNamesPerChainCaseInsensitively() {
+        BrandRequestDTO duplicate = BrandRequestDTO.builder().brandName("ALPHA BRAND A").chainId(1L).build();
+
+        assertThatThrownBy(() -> brandService.createBrand(duplicate)).isInstanceOf(DuplicateBrandException.class);
+    }
+
+    @Test
+    void allowsReusingASoftDeletedName() {
+        // The baseline's (brand_name, chain_id) index rejected this; V3 drops it
+        BrandRequestDTO reused = BrandRequestDTO.builder().brandName("Retired Brand").chainId(2L).build();
+
+        assertThat(brandService.createBrand(reused).getBrandId()).isNotEqualTo(6L);
+    }
+
+    private boolean isActive(long brandId) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT is_active FROM brand WHERE brand_id = ?", Boolean.class, brandId));
+    }
+}
@@ -0,0 +1,157 @@
+package com.brandmanagement.changes;
+
+import com.brandmanagement.dto.BrandChangeDTO;
+import com.brandmanagement.dto.BrandChangePageDTO;
+import com.brandmanagement.service.BrandChangeService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class BrandChangeBroadcasterTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+    private final BrandChangeService changeService = mock(BrandChangeService.class);
+    private final BrandChangeBroadcaster broadcaster = new BrandChangeBroadcaster(changeService);
+    private final CountDownLatch unblock = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() {
+        unblock.countDown();
+        broadcaster.shutdown();
+    }
+
+    @Test
+    void stalledSubscriberIsDroppedWithoutDelayingOthers() throws Exception {
+        RecordingEmitter stalled = new RecordingEmitter(unblock);
+        RecordingEmitter fast = new RecordingEmitter(null);
+        broadcaster.subscribe(stalled, null);
+        broadcaster.subscribe(fast, null);
+
+        // One change in flight on the stalled connection, then a full backlog, then one more
+        int total = BrandChangeBroadcaster.SUBSCRIBER_BACKLOG + 2;
+        for (int from = 0; from < total; from += 100) {
+            List<BrandChangeDTO> batch = IntStream.range(from, Math.min(from + 100, total))
+                    .mapToObj(BrandChangeBroadcasterTest::change)
+                    .toList();
+            broadcaster.publish(batch);
+            // Let the healthy subscriber keep up so only the stalled one overflows
+            int published = from + batch.size();
+            awaitTrue(() -> fast.ids.size() == published);
+        }
+
+        assertThat(broadcaster.subscriberCount()).isEqualTo(1);
+        assertThat(stalled.completed).isTrue();
+        assertThat(fast.completed).isFalse();
+    }
+
+    @Test
+    void subscriberReceivesChangesInOrder() throws Exception {
+        RecordingEmitter emitter = new RecordingEmitter(null);
+        broadcaster.subscribe(emitter, null);
+
+        broadcaster.publish(List.of(change(0), change(1)));
+        broadcaster.publish(List.of(change(2)));
+
+        awaitTrue(() -> emitter.ids.size() == 3);
+        assertThat(emitter.ids).containsExactly(token(0), token(1), token(2));
+    }
+
+    @Test
+    void writeLandingDuringReplayIsSentOnceAndInOrder() throws Exception {
+        Thread caller = Thread.currentThread();
+        List<Thread> replayThreads = new CopyOnWriteArrayList<>();
+        // Change 4 is written while the replay reads its first page: the poller publishes 3..4
+        // while the replay is still behind, and the replay's second page sees them too
+        when(changeService.getChangesSince(eq(token(0)), anyInt())).thenAnswer(invocation -> {
+            replayThreads.add(Thread.currentThread());
+            broadcaster.publish(List.of(change(3), change(4)));
+            return page(true, 1, 2);
+        });
+        when(changeService.getChangesSince(eq(token(2)), anyInt())).thenAnswer(invocation -> {
+            replayThreads.add(Thread.currentThread());
+            return page(false, 3, 4);
+        });
+        RecordingEmitter emitter = new RecordingEmitter(null);
+
+        broadcaster.subscribe(emitter, token(0));
+        awaitTrue(() -> emitter.ids.size() == 4);
+        broadcaster.publish(List.of(change(4), change(5)));
+        awaitTrue(() -> emitter.ids.size() == 5);
+
+        assertThat(emitter.ids).containsExactly(token(1), token(2), token(3), token(4), token(5));
+        assertThat(replayThreads).hasSize(2).doesNotContain(caller);
+    }
+
+    private static BrandChangePageDTO page(boolean hasMore, int... changes) {
+        List<BrandChangeDTO> page = IntStream.of(changes).mapToObj(BrandChangeBroadcasterTest::change).toList();
+        return BrandChangePageDTO.builder()
+                .changes(page)
+                .nextToken(page.get(page.size() - 1).getToken())
+                .hasMore(hasMore)
+                .build();
+    }
+
+    private static BrandChangeDTO change(int i) {
+        return BrandChangeDTO.builder().type(BrandChangeDTO.Type.UPDATED).token(token(i)).build();
+    }
+
+    private static String token(int i) {
+        return ChangeToken.of(T0.plusSeconds(i), i).encode();
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(1);
+        }
+    }
+
+    /** Records event ids; blocks every send on the latch when one is given, like a client that stopped reading. */
+    private static final class RecordingEmitter extends SseEmitter {
+        private final CountDownLatch block;
+        private final List<String> ids = new CopyOnWriteArrayList<>();
+        private volatile boolean completed;
+
+        private RecordingEmitter(CountDownLatch block) {
+            this.block = block;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (block != null) {
+                try {
+                    block.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException(e);
+                }
+            }
+            String event = builder.build().stream()
+                    .map(part -> String.valueOf(part.getData()))
+                    .reduce("", String::concat);
+            ids.add(event.substring("id:".length(), event.indexOf('\n')));
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.brandmanagement.changes;
+
+import com.brandmanagement.dto.BrandChangeDTO;
+import com.brandmanagement.dto.BrandChangePageDTO;
+import com.brandmanagement.search.BrandSearchIndex;
+import com.brandmanagement.service.BrandChangeService;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class BrandChangeFeedPollerTest {
+
+    private final BrandChangeService changeService = mock(BrandChangeService.class);
+    private final BrandSearchIndex searchIndex = mock(BrandSearchIndex.class);
+    private final BrandChangeBroadcaster broadcaster = mock(BrandChangeBroadcaster.class);
+    private final BrandChangeFeedPoller poller = new BrandChangeFeedPoller(changeService, searchIndex, broadcaster);
+
+    @Test
+    void appliesEveryPageAndResumesFromTheLastToken() {
+        List<BrandChangeDTO> first = List.of(change("a"), change("b"));
+        List<BrandChangeDTO> second = List.of(change("c"));
+        when(changeService.getChangesSince(isNull(), anyInt())).thenReturn(page(first, "b", true));
+        when(changeService.getChangesSince(eq("b"), anyInt())).thenReturn(page(second, "c", false));
+        when(changeService.getChangesSince(eq("c"), anyInt())).thenReturn(page(List.of(), "c", false));
+
+        poller.poll();
+        poller.poll();
+
+        InOrder order = inOrder(changeService, searchIndex, broadcaster);
+        order.verify(searchIndex).apply(first);
+        order.verify(broadcaster).publish(first);
+        order.verify(searchIndex).apply(second);
+        order.verify(broadcaster).publish(second);
+        order.verify(changeService).getChangesSince(eq("c"), anyInt());
+        order.verify(broadcaster).publish(List.of());
+    }
+
+    private static BrandChangePageDTO page(List<BrandChangeDTO> changes, String nextToken, boolean hasMore) {
+        return BrandChangePageDTO.builder().changes(changes).nextToken(nextToken).hasMore(hasMore).build();
+    }
+
+    private static BrandChangeDTO change(String token) {
+        return BrandChangeDTO.builder().type(BrandChangeDTO.Type.UPDATED).token(token).build();
+    }
+}
@@ -0,0 +1,134 @@
+package com.brandmanagement.coalescing;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SingleFlightTest {
+
+    private static final int CALLERS = 32;
+
+    private MeterRegistry registry;
+    private SingleFlight singleFlight;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        singleFlight = new SingleFlight(registry, transactionManager);
+    }
+
+    @Test
+    void concurrentCallersForOneKeyShareOneQuery() throws Exception {
+        AtomicInteger queries = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> result = List.of("a", "b");
+
+        ExecutorService pool = Executors.newFixedThreadPool(CALLERS);
+        try {
+            List<Future<List<String>>> calls = new ArrayList<>();
+            for (int i = 0; i < CALLERS; i++) {
+                calls.add(pool.submit(() -> {
+                    start.await();
+                    return singleFlight.readOnly("brands:all", () -> {
+                        queries.incrementAndGet();
+                        await(release);
+                        return result;
+                    });
+                }));
+            }
+            start.countDown();
+            // The query stays in flight until every other caller has joined it
+            awaitShared(CALLERS - 1);
+            release.countDown();
+
+            for (Future<List<String>> call : calls) {
+                assertThat(call.get(10, TimeUnit.SECONDS)).isSameAs(result);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        assertThat(queries).hasValue(1);
+        assertThat(calls("executed")).isEqualTo(1);
+    }
+
+    @Test
+    void waitersShareTheLeadersException() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            Future<Object> leader = pool.submit(() -> singleFlight.readOnly("brands:stamp", () -> {
+                await(release);
+                throw new IllegalStateException("database down");
+            }));
+            awaitExecuted(1);
+            Future<Object> waiter = pool.submit(() -> singleFlight.readOnly("brands:stamp", () -> "not run"));
+            awaitShared(1);
+            release.countDown();
+
+            assertThatThrownBy(() -> leader.get(10, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalStateException.class);
+            assertThatThrownBy(() -> waiter.get(10, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalStateException.class);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void laterCallersRunTheirOwnQuery() {
+        AtomicInteger queries = new AtomicInteger();
+        singleFlight.readOnly("chains:stamp", queries::incrementAndGet);
+        singleFlight.readOnly("chains:stamp", queries::incrementAndGet);
+
+        assertThat(queries).hasValue(2);
+    }
+
+    private void awaitShared(int callers) throws InterruptedException {
+        awaitCount("shared", callers);
+    }
+
+    private void awaitExecuted(int callers) throws InterruptedException {
+        awaitCount("executed", callers);
+    }
+
+    private void awaitCount(String result, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (calls(result) < expected) {
+            assertThat(System.nanoTime()).as("callers counted as " + result).isLessThan(deadline);
+            Thread.sleep(1);
+        }
+    }
+
+    private double calls(String result) {
+        var counter = registry.find("brand.singleflight.calls").tag("result", result).counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.brandmanagement.controller;
+
+import com.brandmanagement.dto.BrandRequestDTO;
+import com.brandmanagement.entity.Chain;
+import com.brandmanagement.repository.ChainRepository;
+import com.brandmanagement.service.BrandService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * The export streams after the response is committed, so an unknown chain has to be
+ * rejected before the body starts.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class BrandExportTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private BrandService brandService;
+
+    @Autowired
+    private ChainRepository chainRepository;
+
+    @Test
+    void unknownChainIsNotFoundBeforeStreaming() throws Exception {
+        mockMvc.perform(get("/api/brands/export").param("chainId", "987654321"))
+                .andExpect(request().asyncNotStarted())
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void knownChainStreamsItsBrands() throws Exception {
+        Long chainId = chainRepository.save(Chain.builder().chainName("Chain " + UUID.randomUUID()).build())
+                .getChainId();
+        for (String name : new String[]{"Export One", "Export Two"}) {
+            brandService.createBrand(BrandRequestDTO.builder().brandName(name).chainId(chainId).build());
+        }
+
+        MvcResult started = mockMvc.perform(get("/api/brands/export").param("chainId", chainId.toString()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String body = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertThat(body.lines()).hasSize(2).allMatch(line -> line.contains("\"chainId\":" + chainId));
+    }
+}
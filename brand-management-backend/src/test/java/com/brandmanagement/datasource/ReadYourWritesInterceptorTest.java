@@ -0,0 +1,63 @@
+package com.brandmanagement.datasource;
+
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReadYourWritesInterceptorTest {
+
+    private final ReadYourWritesInterceptor interceptor = new ReadYourWritesInterceptor(Duration.ofSeconds(10));
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    @AfterEach
+    void clearPin() {
+        PrimaryPin.restore(false);
+    }
+
+    @Test
+    void writeSetsTheCookie() {
+        interceptor.preHandle(new MockHttpServletRequest("PUT", "/api/brands/1"), response, null);
+
+        assertThat(response.getCookie(ReadYourWritesInterceptor.COOKIE)).isNotNull();
+        assertThat(PrimaryPin.isPinned()).isFalse();
+    }
+
+    @Test
+    void readWithTheCookieIsPinnedUntilCompletion() throws Exception {
+        MockHttpServletRequest request = readWithCookie("/api/brands");
+
+        interceptor.preHandle(request, response, null);
+        assertThat(PrimaryPin.isPinned()).isTrue();
+
+        interceptor.afterCompletion(request, response, null, null);
+        assertThat(PrimaryPin.isPinned()).isFalse();
+    }
+
+    @Test
+    void asyncHandlerReleasesThePinOnTheRequestThread() throws Exception {
+        MockHttpServletRequest request = readWithCookie("/api/brands/changes/stream");
+
+        interceptor.preHandle(request, response, null);
+        // Spring calls this instead of afterCompletion when the handler goes async
+        interceptor.afterConcurrentHandlingStarted(request, response, null);
+        assertThat(PrimaryPin.isPinned()).isFalse();
+
+        // The async dispatch, possibly on another thread, pins and releases again
+        interceptor.preHandle(request, response, null);
+        assertThat(PrimaryPin.isPinned()).isTrue();
+        interceptor.afterCompletion(request, response, null, null);
+        assertThat(PrimaryPin.isPinned()).isFalse();
+    }
+
+    private static MockHttpServletRequest readWithCookie(String uri) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        request.setCookies(new Cookie(ReadYourWritesInterceptor.COOKIE, "1"));
+        return request;
+    }
+}
@@ -0,0 +1,109 @@
+package com.brandmanagement.search;
+
+import com.brandmanagement.dto.BrandChangeDTO;
+import com.brandmanagement.dto.BrandDTO;
+import com.brandmanagement.dto.BrandSearchResultDTO;
+import com.brandmanagement.repository.BrandRepository;
+import com.brandmanagement.repository.BrandRepositoryCustom.BrandRowHandler;
+import com.brandmanagement.sharding.ShardRouter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class BrandSearchIndexTest {
+
+    private BrandRepository brandRepository;
+    private BrandSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        brandRepository = mock(BrandRepository.class);
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        index = new BrandSearchIndex(brandRepository, transactionManager, new ShardRouter(List.of()));
+    }
+
+    @Test
+    void chainFilterOnlyScansThatChain() {
+        for (long id = 1; id <= 50_000; id++) {
+            index.upsert(brand(id, "Pizza Place " + id, 1L));
+        }
+        index.upsert(brand(50_001L, "Pizza Palace", 2L));
+
+        assertThat(index.search("pizza", 2L, 10)).extracting(BrandSearchResultDTO::getBrandId).containsExactly(50_001L);
+        assertThat(index.search("place", 2L, 10)).isEmpty();
+        assertThat(index.search("palace", 2L, 10)).extracting(BrandSearchResultDTO::getBrandId).containsExactly(50_001L);
+    }
+
+    @Test
+    void tokenScanStopsAtTheCandidateCap() {
+        for (long id = 1; id <= BrandSearchIndex.MAX_TOKEN_CANDIDATES + 10; id++) {
+            index.upsert(brand(id, "Alpha Omega" + id, 1L));
+        }
+        // Its "alpha" token key sorts after every other brand's
+        index.upsert(brand(9_999_999L, "Zetagamma Alpha", 1L));
+
+        // "alpha" drives the token scan and only the last candidate also matches "ze"
+        assertThat(index.search("alpha ze", null, 10)).isEmpty();
+        // A selective driver token finds it
+        assertThat(index.search("alpha zetagam", null, 10)).extracting(BrandSearchResultDTO::getBrandId)
+                .containsExactly(9_999_999L);
+    }
+
+    @Test
+    void rebuildReplaysWritesMadeWhileStreaming() {
+        doAnswer(invocation -> {
+            BrandRowHandler handler = invocation.getArgument(1);
+            handler.row(1L, "Burger Barn", 1L, "Chain", true, null, null, 0L);
+            handler.row(2L, "Burrito Bar", 1L, "Chain", true, null, null, 0L);
+            // Committed while the stream is still reading: brand 1 deleted, brand 3 created, brand 2 renamed
+            index.remove(1L);
+            index.upsert(brand(3L, "Bagel Bay", 1L));
+            index.upsert(brand(2L, "Taco Town", 1L));
+            return null;
+        }).when(brandRepository).forEachActiveBrand(isNull(), any());
+
+        index.rebuild();
+
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.search("bur", null, 10)).isEmpty();
+        assertThat(index.search("bagel", null, 10)).extracting(BrandSearchResultDTO::getBrandId).containsExactly(3L);
+        assertThat(index.search("taco", null, 10)).extracting(BrandSearchResultDTO::getBrandId).containsExactly(2L);
+    }
+
+    @Test
+    void appliesChangesPolledFromOtherInstances() {
+        index.upsert(brand(1L, "Burger Barn", 1L));
+        index.upsert(brand(2L, "Burrito Bar", 1L));
+
+        index.apply(List.of(
+                polled(BrandChangeDTO.Type.DELETED, 1L, "Burger Barn"),
+                polled(BrandChangeDTO.Type.UPDATED, 2L, "Taco Town"),
+                polled(BrandChangeDTO.Type.CREATED, 3L, "Bagel Bay")));
+
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.search("bur", null, 10)).isEmpty();
+        assertThat(index.search("taco", null, 10)).extracting(BrandSearchResultDTO::getBrandId).containsExactly(2L);
+        assertThat(index.search("bagel", 1L, 10)).extracting(BrandSearchResultDTO::getBrandId).containsExactly(3L);
+    }
+
+    private static BrandChangeDTO polled(BrandChangeDTO.Type type, long id, String name) {
+        BrandDTO brand = BrandDTO.builder().brandId(id).brandName(name).chainId(1L).chainName("Chain 1")
+                .isActive(type != BrandChangeDTO.Type.DELETED).build();
+        return BrandChangeDTO.builder().type(type).brand(brand).build();
+    }
+
+    private static BrandSearchResultDTO brand(long id, String name, long chainId) {
+        return BrandSearchResultDTO.builder().brandId(id).brandName(name).chainId(chainId).chainName("Chain " + chainId).build();
+    }
+}
@@ -0,0 +1,101 @@
+package com.brandmanagement.service.impl;
+
+import com.brandmanagement.dto.BrandBulkRowResultDTO;
+import com.brandmanagement.dto.BrandRequestDTO;
+import com.brandmanagement.entity.Chain;
+import com.brandmanagement.repository.ChainRepository;
+import com.brandmanagement.service.BrandService;
+import com.brandmanagement.support.SqlRecorder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The brand list, brands by chain and brand by ID each run a fixed number of statements,
+ * however many brands they return: chains are joined in, never lazy-loaded per row.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class BrandReadStatementCountTest {
+
+    @Autowired
+    private BrandService brandService;
+
+    @Autowired
+    private ChainRepository chainRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private SqlRecorder sql;
+
+    @BeforeEach
+    void attachRecorder() {
+        sql = SqlRecorder.attach(dataSource);
+    }
+
+    @Test
+    void listReadsDoNotGrowWithRowCount() {
+        List<Long> chainIds = List.of(createChain(), createChain(), createChain());
+        List<Long> brandIds = createBrands(chainIds, 3);
+
+        List<String> fewAll = record(() -> brandService.getAllActiveBrands());
+        List<String> fewByChain = record(() -> brandService.getBrandsByChain(chainIds.get(0)));
+        List<String> fewById = record(() -> brandService.getBrandById(brandIds.get(0)));
+
+        createBrands(chainIds, 60);
+
+        List<String> manyAll = record(() -> brandService.getAllActiveBrands());
+        List<String> manyByChain = record(() -> brandService.getBrandsByChain(chainIds.get(0)));
+        List<String> manyById = record(() -> brandService.getBrandById(brandIds.get(0)));
+
+        assertThat(fewAll).hasSize(1);
+        assertThat(manyAll).hasSize(1);
+        // Chain existence check + one joined list query
+        assertThat(fewByChain).hasSize(2);
+        assertThat(manyByChain).hasSize(2);
+        assertThat(fewById).hasSize(1);
+        assertThat(manyById).hasSize(1);
+        assertThat(brandService.getBrandsByChain(chainIds.get(0))).hasSize(63);
+    }
+
+    /** Statements of one uncached call. */
+    private List<String> record(Runnable call) {
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+        sql.start();
+        call.run();
+        return sql.stop();
+    }
+
+    private Long createChain() {
+        return chainRepository.save(Chain.builder().chainName("Chain " + UUID.randomUUID()).build()).getChainId();
+    }
+
+    private List<Long> createBrands(List<Long> chainIds, int perChain) {
+        List<BrandRequestDTO> requests = new ArrayList<>();
+        for (Long chainId : chainIds) {
+            for (int i = 0; i < perChain; i++) {
+                requests.add(BrandRequestDTO.builder()
+                        .brandName("Brand " + UUID.randomUUID().toString().substring(0, 8))
+                        .chainId(chainId)
+                        .build());
+            }
+        }
+        return brandService.createBrands(requests).getRows().stream()
+                .map(BrandBulkRowResultDTO::getBrandId)
+                .toList();
+    }
+}
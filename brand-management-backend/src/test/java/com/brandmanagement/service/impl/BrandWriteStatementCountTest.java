@@ -0,0 +1,118 @@
+package com.brandmanagement.service.impl;
+
+import com.brandmanagement.dto.BrandDTO;
+import com.brandmanagement.dto.BrandRequestDTO;
+import com.brandmanagement.entity.Chain;
+import com.brandmanagement.exception.DuplicateBrandException;
+import com.brandmanagement.repository.ChainRepository;
+import com.brandmanagement.service.BrandService;
+import com.brandmanagement.support.SqlRecorder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.UUID;
+
+import static com.brandmanagement.support.SqlRecorder.count;
+import static com.brandmanagement.support.SqlRecorder.insertsInto;
+import static com.brandmanagement.support.SqlRecorder.selects;
+import static com.brandmanagement.support.SqlRecorder.updates;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Update and delete touch the brand row with the fewest statements. Besides those, every
+ * write bumps the brand catalog version (one UPDATE) and appends to the outbox (one INSERT).
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class BrandWriteStatementCountTest {
+
+    @Autowired
+    private BrandService brandService;
+
+    @Autowired
+    private ChainRepository chainRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private SqlRecorder sql;
+    private Long chainId;
+
+    @BeforeEach
+    void setUp() {
+        sql = SqlRecorder.attach(dataSource);
+        chainId = chainRepository.save(Chain.builder().chainName("Chain " + UUID.randomUUID()).build()).getChainId();
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+    }
+
+    @Test
+    void updateRunsOneSelectAndOneBrandUpdate() {
+        BrandDTO brand = createBrand("Corner Cafe");
+
+        sql.start();
+        BrandDTO updated = brandService.updateBrand(brand.getBrandId(), request("Corner Cafe & Bakery", brand.getVersion()));
+        List<String> statements = sql.stop();
+
+        assertThat(count(statements, selects())).isEqualTo(1);
+        assertThat(count(statements, updates("brand"))).isEqualTo(1);
+        assertThat(count(statements, updates("catalog_version"))).isEqualTo(1);
+        assertThat(count(statements, insertsInto("brand_outbox"))).isEqualTo(1);
+        assertThat(statements).hasSize(4);
+        assertThat(updated.getVersion()).isEqualTo(brand.getVersion() + 1);
+    }
+
+    @Test
+    void renameOntoAnotherActiveBrandIsRejectedByTheUniqueIndex() {
+        createBrand("North Star");
+        BrandDTO other = createBrand("South Star");
+
+        assertThatThrownBy(() -> brandService.updateBrand(other.getBrandId(), request("  north STAR ", null)))
+                .isInstanceOf(DuplicateBrandException.class);
+        assertThat(brandService.getBrandById(other.getBrandId()).getBrandName()).isEqualTo("South Star");
+    }
+
+    @Test
+    void deleteOfACachedBrandRunsOneBrandUpdate() {
+        BrandDTO brand = createBrand("Harbor Grill");
+        brandService.getBrandById(brand.getBrandId());
+
+        sql.start();
+        brandService.deleteBrand(brand.getBrandId());
+        List<String> statements = sql.stop();
+
+        assertThat(count(statements, selects())).isZero();
+        assertThat(count(statements, updates("brand"))).isEqualTo(1);
+        assertThat(statements).hasSize(3);
+    }
+
+    @Test
+    void deleteOfAnUncachedBrandAlsoLooksUpItsChain() {
+        BrandDTO brand = createBrand("Garden Deli");
+
+        sql.start();
+        brandService.deleteBrand(brand.getBrandId());
+        List<String> statements = sql.stop();
+
+        assertThat(count(statements, selects())).isEqualTo(1);
+        assertThat(count(statements, updates("brand"))).isEqualTo(1);
+        assertThat(statements).hasSize(4);
+    }
+
+    private BrandDTO createBrand(String name) {
+        return brandService.createBrand(request(name, null));
+    }
+
+    private BrandRequestDTO request(String name, Long version) {
+        return BrandRequestDTO.builder().brandName(name).chainId(chainId).version(version).build();
+    }
+}
@@ -0,0 +1,92 @@
+package com.brandmanagement.service.impl;
+
+import com.brandmanagement.dto.BrandDTO;
+import com.brandmanagement.dto.BrandRequestDTO;
+import com.brandmanagement.exception.CrossShardMoveException;
+import com.brandmanagement.exception.ResourceNotFoundException;
+import com.brandmanagement.repository.BrandRepository;
+import com.brandmanagement.service.BrandService;
+import com.brandmanagement.sharding.ShardRouter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Runs against the three embedded shards of the "shard-local" profile, where chain c lives
+ * on shard c MOD 3: seed chains 1 and 4 on shard 1, chain 2 on shard 2.
+ */
+@SpringBootTest
+@ActiveProfiles({"test", "shard-local"})
+class ShardedBrandServiceTest {
+
+    @Autowired
+    private BrandService brandService;
+
+    @Autowired
+    private BrandRepository brandRepository;
+
+    @Autowired
+    private ShardRouter shardRouter;
+
+    @Test
+    void createStoresTheBrandOnTheChainsShardOnly() {
+        assertThat(brandService).isInstanceOf(ShardedBrandServiceImpl.class);
+        assertThat(shardRouter.count()).isEqualTo(3);
+
+        BrandDTO created = create(2L);
+
+        assertThat(shardRouter.shardOfBrand(created.getBrandId())).isEqualTo(2);
+        assertThat(created.getBrandId()).isGreaterThan(2L << ShardRouter.BRAND_ID_SHARD_SHIFT);
+        // The repository, not the service: brand by ID is cached across shards
+        for (int shard = 0; shard < shardRouter.count(); shard++) {
+            boolean stored = shardRouter.on(shard, () -> brandRepository.existsById(created.getBrandId()));
+            assertThat(stored).as("stored on shard " + shard).isEqualTo(shard == 2);
+        }
+    }
+
+    @Test
+    void readsAreRoutedToTheOwningShard() {
+        BrandDTO created = create(1L);
+
+        assertThat(brandService.getBrandById(created.getBrandId()).getChainId()).isEqualTo(1L);
+        assertThat(brandService.getBrandsByChain(1L)).extracting(BrandDTO::getBrandId).contains(created.getBrandId());
+        assertThat(brandService.getBrandsByChain(2L)).extracting(BrandDTO::getBrandId).doesNotContain(created.getBrandId());
+        assertThat(brandService.getAllActiveBrands()).extracting(BrandDTO::getBrandId).contains(created.getBrandId());
+    }
+
+    @Test
+    void moveToAChainOnAnotherShardIsRejected() {
+        BrandDTO created = create(1L);
+        BrandRequestDTO move = BrandRequestDTO.builder().brandName(created.getBrandName()).chainId(2L).build();
+
+        assertThatThrownBy(() -> brandService.updateBrand(created.getBrandId(), move))
+                .isInstanceOf(CrossShardMoveException.class);
+        assertThat(brandService.getBrandById(created.getBrandId()).getChainId()).isEqualTo(1L);
+
+        // Chain 4 shares shard 1 with chain 1, so that move is allowed
+        BrandRequestDTO sameShard = BrandRequestDTO.builder().brandName(created.getBrandName()).chainId(4L).build();
+        assertThat(brandService.updateBrand(created.getBrandId(), sameShard).getChainId()).isEqualTo(4L);
+    }
+
+    @Test
+    void unknownBrandOnCrossShardMoveIsNotFound() {
+        long missing = (1L << ShardRouter.BRAND_ID_SHARD_SHIFT) + 999_999;
+        BrandRequestDTO move = BrandRequestDTO.builder().brandName("Nowhere").chainId(2L).build();
+
+        assertThatThrownBy(() -> brandService.updateBrand(missing, move))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    private BrandDTO create(Long chainId) {
+        return brandService.createBrand(BrandRequestDTO.builder()
+                .brandName("Sharded " + UUID.randomUUID().toString().substring(0, 8))
+                .chainId(chainId)
+                .build());
+    }
+}
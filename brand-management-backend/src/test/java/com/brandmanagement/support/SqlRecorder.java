@@ -0,0 +1,74 @@
+package com.brandmanagement.support;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Predicate;
+
+/**
+ * Records the SQL the calling thread sends through the application DataSource (the
+ * datasource-proxy that MetricsConfig installs), so tests can assert statement counts.
+ */
+public final class SqlRecorder implements QueryExecutionListener {
+
+    private final ThreadLocal<List<String>> statements = new ThreadLocal<>();
+
+    private SqlRecorder() {
+    }
+
+    /** Adds a recorder to the proxy's listeners. */
+    public static SqlRecorder attach(DataSource dataSource) {
+        SqlRecorder recorder = new SqlRecorder();
+        ((ProxyDataSource) dataSource).getProxyConfig().getQueryListener().addListener(recorder);
+        return recorder;
+    }
+
+    /** Starts recording on the calling thread, discarding anything recorded before. */
+    public void start() {
+        statements.set(new ArrayList<>());
+    }
+
+    /** Stops recording on the calling thread and returns the statements, lower-cased, in order. */
+    public List<String> stop() {
+        List<String> recorded = statements.get();
+        statements.remove();
+        return recorded == null ? List.of() : recorded;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        List<String> recorded = statements.get();
+        if (recorded != null) {
+            queryInfoList.forEach(query -> recorded.add(query.getQuery().trim().toLowerCase(Locale.ROOT)));
+        }
+    }
+
+    /* ─── Matchers ──────────────────────────────────────────────────── */
+    public static Predicate<String> selects() {
+        return sql -> sql.startsWith("select");
+    }
+
+    /** UPDATE of the given table. */
+    public static Predicate<String> updates(String table) {
+        return sql -> sql.startsWith("update " + table + " ");
+    }
+
+    /** INSERT into the given table. */
+    public static Predicate<String> insertsInto(String table) {
+        return sql -> sql.startsWith("insert into " + table + " ");
+    }
+
+    public static long count(List<String> statements, Predicate<String> matcher) {
+        return statements.stream().filter(matcher).count();
+    }
+}
@@ -0,0 +1,34 @@
+-- A database as the service left it before Flyway: the DDL ddl-auto=update generated from the
+-- original entities, the rows data.sql inserted, and a few rows written through the API since.
+create table chain (chain_id bigint not null auto_increment, created_at datetime(6) not null, is_active bit not null, chain_name varchar(100) not null, updated_at datetime(6), primary key (chain_id)) engine=InnoDB;
+create table brand (brand_id bigint not null auto_increment, brand_name varchar(50) not null, created_at datetime(6) not null, is_active bit not null, updated_at datetime(6), chain_id bigint not null, primary key (brand_id)) engine=InnoDB;
+create table zone (zone_id bigint not null auto_increment, created_at datetime(6) not null, is_active bit not null, updated_at datetime(6), zone_name varchar(100) not null, brand_id bigint not null, primary key (zone_id)) engine=InnoDB;
+alter table chain add constraint UK5t4w9ufb6kx1xhk4rnw7s0b2b unique (chain_name);
+alter table brand add constraint uq_brand_name_chain unique (brand_name, chain_id);
+alter table brand add constraint fk_brand_chain foreign key (chain_id) references chain (chain_id);
+alter table zone add constraint fk_zone_brand foreign key (brand_id) references brand (brand_id);
+
+INSERT IGNORE INTO chain (chain_id, chain_name, is_active, created_at, updated_at)
+VALUES
+  (1, 'Alpha Group',    true, NOW(), NOW()),
+  (2, 'Beta Holdings',  true, NOW(), NOW()),
+  (3, 'Gamma Corp',     true, NOW(), NOW()),
+  (4, 'Delta Ventures', true, NOW(), NOW()),
+  (5, 'Epsilon Ltd',    true, NOW(), NOW());
+
+INSERT IGNORE INTO brand (brand_name, chain_id, is_active, created_at, updated_at)
+VALUES
+  ('Alpha Brand A',  1, true, NOW(), NOW()),
+  ('Alpha Brand B',  1, true, NOW(), NOW()),
+  ('Beta Brand X',   2, true, NOW(), NOW()),
+  ('Gamma Brand One',3, true, NOW(), NOW()),
+  ('Delta Prime',    4, true, NOW(), NOW());
+
+-- brand_id 6: soft-deleted; brand_id 7: differs from brand 2 only by a leading space
+INSERT INTO brand (brand_name, chain_id, is_active, created_at, updated_at)
+VALUES
+  ('Retired Brand',  2, false, NOW(), NOW()),
+  (' Alpha Brand B', 1, true,  NOW(), NOW());
+
+INSERT INTO zone (zone_name, brand_id, is_active, created_at, updated_at)
+VALUES ('North', 1, true, NOW(), NOW());
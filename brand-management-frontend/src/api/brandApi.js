@@ -2,9 +2,12 @@ import axios from 'axios';
 
 const API_BASE = 'http://localhost:8080/api';
 
+// Send cookies cross-origin: the backend's brand-read-primary cookie keeps this client's
+// reads on the primary database right after it writes (read-your-writes)
 const api = axios.create({
   baseURL: API_BASE,
   headers: { 'Content-Type': 'application/json' },
+  withCredentials: true,
 });
 
 /* ── Brand APIs ──────────────────────────────────────────────────────── */